@@ -1,7 +1,19 @@
 package com.company.opexhub.config;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -11,10 +23,13 @@ import com.company.opexhub.repository.InitiativeRepository;
 import com.company.opexhub.repository.UserRepository;
 import com.company.opexhub.repository.WfMasterRepository;
 import com.company.opexhub.repository.WorkflowStageRepository;
+import com.company.opexhub.service.WorkflowStageService;
 
 @Component
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -30,12 +45,41 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private WfMasterRepository wfMasterRepository;
 
+    // Seeds the master stages when created; a provider so lazy startup does not create it here
+    @Autowired
+    private ObjectProvider<WorkflowStageService> workflowStageService;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private TaskExecutor taskExecutor;
+
+    @Autowired
+    private StartupReport startupReport;
+
+    // Seed in the background, so startup does not wait for it
+    @Value("${startup.seed-async:false}")
+    private boolean seedAsync;
+
     @Override
     public void run(String... args) throws Exception {
-        // Check if users already exist
-        if (userRepository.count() == 0) {
-            initializeUsers();
+        if (!seedAsync) {
+            seed();
+            return;
         }
+        taskExecutor.execute(() -> {
+            try {
+                seed();
+                startupReport.seedingFinished();
+            } catch (RuntimeException e) {
+                logger.error("Seeding demo data failed", e);
+            }
+        });
+    }
+
+    private void seed() {
+        workflowStageService.getObject();
+
+        initializeUsers();
         
         // Check if workflow stages need to be initialized for existing initiatives
         initializeWorkflowStages();
@@ -44,118 +88,96 @@ public class DataInitializer implements CommandLineRunner {
         initializeWfMaster();
     }
 
+    /**
+     * Insert whichever demo users are missing, matched by email, so a kept database is left alone.
+     */
     private void initializeUsers() {
+        // fullName, email, site, discipline, role, roleName
         // Create NDS site users (existing users)
-        User[] ndsUsers = {
+        String[][] ndsUsers = {
             // Stage 1: Register Initiative - STLD (Site TSD Lead) - Can CREATE initiatives
-            new User("Manoj Tiwari", "manoj.tiwari@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "TSD", "STLD", "Site TSD Lead"),
+            {"Manoj Tiwari", "manoj.tiwari@godeepak.com", "NDS", "TSD", "STLD", "Site TSD Lead"},
             
             // Stage 2: Approval - SH (Site Head)
-            new User("Priya Sharma", "priya.sharma@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "MGMT", "SH", "Site Head"),
+            {"Priya Sharma", "priya.sharma@godeepak.com", "NDS", "MGMT", "SH", "Site Head"},
             
             // Stage 3: Define Responsibilities - EH (Engineering Head)
-            new User("Amit Patel", "amit.patel@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "ENG", "EH", "Engineering Head"),
+            {"Amit Patel", "amit.patel@godeepak.com", "NDS", "ENG", "EH", "Engineering Head"},
             
             // Stage 4: MOC Stage - IL (Initiative Lead)
-            new User("Rajesh Kumar", "rajesh.kumar@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "MECH", "IL", "Initiative Lead"),
+            {"Rajesh Kumar", "rajesh.kumar@godeepak.com", "NDS", "MECH", "IL", "Initiative Lead"},
             
             // Stage 7: Trial Implementation - STLD (Site TSD Lead)
-            new User("Vikram Gupta", "vikram.gupta@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "MAINT", "STLD", "Site TSD Lead"),
+            {"Vikram Gupta", "vikram.gupta@godeepak.com", "NDS", "MAINT", "STLD", "Site TSD Lead"},
             
             // Stage 8: Periodic Status Review - CTSD (Corporate TSD)
-            new User("Kavya Nair", "kavya.nair@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "CORP", "CTSD", "Corporate TSD"),
+            {"Kavya Nair", "kavya.nair@godeepak.com", "NDS", "CORP", "CTSD", "Corporate TSD"},
             
             // Stage 9: Savings Monitoring - STLD (Site TSD Lead)
-            new User("Suresh Reddy", "suresh.reddy@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "EG", "STLD", "Site TSD Lead"),
+            {"Suresh Reddy", "suresh.reddy@godeepak.com", "NDS", "EG", "STLD", "Site TSD Lead"},
             
             // Stage 10: Savings Validation - STLD (Site TSD Lead)
-            new User("Rohit Jain", "rohit.jain@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "SF", "STLD", "Site TSD Lead"),
+            {"Rohit Jain", "rohit.jain@godeepak.com", "NDS", "SF", "STLD", "Site TSD Lead"},
             
             // Stage 11: Initiative Closure - STLD (Site TSD Lead)
-            new User("Ananya Verma", "ananya.verma@godeepak.com", 
-                    passwordEncoder.encode("password123"), "NDS", "QA", "STLD", "Site TSD Lead")
+            {"Ananya Verma", "ananya.verma@godeepak.com", "NDS", "QA", "STLD", "Site TSD Lead"}
         };
 
         // Create DHJ site users (new users)
-        User[] dhjUsers = {
+        String[][] dhjUsers = {
             // Stage 1: Register Initiative - STLD (Site TSD Lead) - Can CREATE initiatives
-            new User("Deepak Singh", "deepak.singh@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "TSD", "STLD", "Site TSD Lead"),
+            {"Deepak Singh", "deepak.singh@godeepak.com", "DHJ", "TSD", "STLD", "Site TSD Lead"},
             
             // Stage 2: Approval - SH (Site Head)
-            new User("Meera Gupta", "meera.gupta@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "MGMT", "SH", "Site Head"),
+            {"Meera Gupta", "meera.gupta@godeepak.com", "DHJ", "MGMT", "SH", "Site Head"},
             
             // Stage 3: Define Responsibilities - EH (Engineering Head)
-            new User("Arjun Mishra", "arjun.mishra@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "ENG", "EH", "Engineering Head"),
+            {"Arjun Mishra", "arjun.mishra@godeepak.com", "DHJ", "ENG", "EH", "Engineering Head"},
             
             // Stage 4: MOC Stage - IL (Initiative Lead)
-            new User("Pooja Agarwal", "pooja.agarwal@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "MECH", "IL", "Initiative Lead"),
+            {"Pooja Agarwal", "pooja.agarwal@godeepak.com", "DHJ", "MECH", "IL", "Initiative Lead"},
             
             // Stage 7: Trial Implementation - STLD (Site TSD Lead)
-            new User("Karan Sharma", "karan.sharma@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "MAINT", "STLD", "Site TSD Lead"),
+            {"Karan Sharma", "karan.sharma@godeepak.com", "DHJ", "MAINT", "STLD", "Site TSD Lead"},
             
             // Stage 8: Periodic Status Review - CTSD (Corporate TSD)
-            new User("Ritu Nair", "ritu.nair@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "CORP", "CTSD", "Corporate TSD"),
+            {"Ritu Nair", "ritu.nair@godeepak.com", "DHJ", "CORP", "CTSD", "Corporate TSD"},
             
             // Stage 9: Savings Monitoring - STLD (Site TSD Lead)
-            new User("Ashish Verma", "ashish.verma@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "EG", "STLD", "Site TSD Lead"),
+            {"Ashish Verma", "ashish.verma@godeepak.com", "DHJ", "EG", "STLD", "Site TSD Lead"},
             
             // Stage 10: Savings Validation - STLD (Site TSD Lead)
-            new User("Sonia Jain", "sonia.jain@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "SF", "STLD", "Site TSD Lead"),
+            {"Sonia Jain", "sonia.jain@godeepak.com", "DHJ", "SF", "STLD", "Site TSD Lead"},
             
             // Stage 11: Initiative Closure - STLD (Site TSD Lead)
-            new User("Nikhil Reddy", "nikhil.reddy@godeepak.com", 
-                    passwordEncoder.encode("password123"), "DHJ", "QA", "STLD", "Site TSD Lead")
+            {"Nikhil Reddy", "nikhil.reddy@godeepak.com", "DHJ", "QA", "STLD", "Site TSD Lead"}
         };
 
-        // Save NDS users
-        for (User user : ndsUsers) {
-            userRepository.save(user);
+        Set<String> existing = new HashSet<>(userRepository.findAllEmails());
+        List<String[]> missing = new ArrayList<>();
+        for (String[][] siteUsers : new String[][][] {ndsUsers, dhjUsers}) {
+            for (String[] data : siteUsers) {
+                if (!existing.contains(data[1])) {
+                    missing.add(data);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
         }
 
-        // Save DHJ users
-        for (User user : dhjUsers) {
-            userRepository.save(user);
+        // Every demo account shares one password, and BCrypt is deliberately slow, so hash it once
+        String password = passwordEncoder.encode("password123");
+        List<User> users = new ArrayList<>();
+        for (String[] data : missing) {
+            users.add(new User(data[0], data[1], password, data[2], data[3], data[4], data[5]));
         }
+        userRepository.saveAll(users);
 
-        System.out.println("Demo users initialized successfully!");
-        System.out.println("=== NDS SITE LOGIN CREDENTIALS ===");
-        System.out.println("Email: manoj.tiwari@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 1 - CREATE INITIATIVES)");
-        System.out.println("Email: priya.sharma@godeepak.com | Password: password123 | Role: SH - Site Head (Stage 2)");
-        System.out.println("Email: amit.patel@godeepak.com | Password: password123 | Role: EH - Engineering Head (Stage 3)");
-        System.out.println("Email: rajesh.kumar@godeepak.com | Password: password123 | Role: IL - Initiative Lead (Stage 4)");
-        System.out.println("Email: vikram.gupta@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 7)");
-        System.out.println("Email: kavya.nair@godeepak.com | Password: password123 | Role: CTSD - Corporate TSD (Stage 8)");
-        System.out.println("Email: suresh.reddy@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 9)");
-        System.out.println("Email: rohit.jain@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 10)");
-        System.out.println("Email: ananya.verma@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 11)");
-        
-        System.out.println("=== DHJ SITE LOGIN CREDENTIALS ===");
-        System.out.println("Email: deepak.singh@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 1 - CREATE INITIATIVES)");
-        System.out.println("Email: meera.gupta@godeepak.com | Password: password123 | Role: SH - Site Head (Stage 2)");
-        System.out.println("Email: arjun.mishra@godeepak.com | Password: password123 | Role: EH - Engineering Head (Stage 3)");
-        System.out.println("Email: pooja.agarwal@godeepak.com | Password: password123 | Role: IL - Initiative Lead (Stage 4)");
-        System.out.println("Email: karan.sharma@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 7)");
-        System.out.println("Email: ritu.nair@godeepak.com | Password: password123 | Role: CTSD - Corporate TSD (Stage 8)");
-        System.out.println("Email: ashish.verma@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 9)");
-        System.out.println("Email: sonia.jain@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 10)");
-        System.out.println("Email: nikhil.reddy@godeepak.com | Password: password123 | Role: STLD - Site TSD Lead (Stage 11)");
-        System.out.println("========================");
+        logger.info("Demo users initialized: {}", users.size());
+        for (String[] data : missing) {
+            logger.info("Demo login {} / password123 | site {} | role {} - {}", data[1], data[2], data[4], data[5]);
+        }
     }
 
     private void initializeWorkflowStages() {
@@ -178,60 +200,77 @@ public class DataInitializer implements CommandLineRunner {
         // The WorkflowStageService will initialize the master stages automatically
     }
 
+    /**
+     * Insert whichever stage assignments are missing, matched by site and stage number.
+     */
     private void initializeWfMaster() {
-        // Check if wf_master data already exists
-        if (wfMasterRepository.count() == 0) {
-            // Initialize WF Master data for NDS site with correct stage assignments
-            String[][] ndsWfMasterData = {
-                {"1", "Register Initiative", "STLD", "manoj.tiwari@godeepak.com"},
-                {"2", "Approval", "SH", "priya.sharma@godeepak.com"},
-                {"3", "Define Responsibilities", "EH", "amit.patel@godeepak.com"},
-                // IL stages removed - they will be created dynamically after Stage 3
-                {"7", "Trial Implementation & Performance Check", "STLD", "vikram.gupta@godeepak.com"},
-                {"8", "Periodic Status Review with CMO", "CTSD", "kavya.nair@godeepak.com"},
-                {"9", "Savings Monitoring (1 Month)", "STLD", "suresh.reddy@godeepak.com"},
-                {"10", "Saving Validation with F&A", "STLD", "rohit.jain@godeepak.com"},
-                {"11", "Initiative Closure", "STLD", "ananya.verma@godeepak.com"}
-            };
-
-            // Initialize WF Master data for DHJ site with correct stage assignments
-            String[][] dhjWfMasterData = {
-                {"1", "Register Initiative", "STLD", "deepak.singh@godeepak.com"},
-                {"2", "Approval", "SH", "meera.gupta@godeepak.com"},
-                {"3", "Define Responsibilities", "EH", "arjun.mishra@godeepak.com"},
-                // IL stages removed - they will be created dynamically after Stage 3
-                {"7", "Trial Implementation & Performance Check", "STLD", "karan.sharma@godeepak.com"},
-                {"8", "Periodic Status Review with CMO", "CTSD", "ritu.nair@godeepak.com"},
-                {"9", "Savings Monitoring (1 Month)", "STLD", "ashish.verma@godeepak.com"},
-                {"10", "Saving Validation with F&A", "STLD", "sonia.jain@godeepak.com"},
-                {"11", "Initiative Closure", "STLD", "nikhil.reddy@godeepak.com"}
-            };
-
-            // Save NDS WF Master data
-            for (String[] data : ndsWfMasterData) {
-                WfMaster wfMaster = new WfMaster(
-                    Integer.parseInt(data[0]), // stageNumber
-                    data[1], // stageName
-                    data[2], // roleCode
-                    "NDS", // site
-                    data[3]  // userEmail
-                );
-                wfMasterRepository.save(wfMaster);
+        Set<String> existing = new HashSet<>();
+        for (WfMaster wfMaster : wfMasterRepository.findAll()) {
+            existing.add(wfMaster.getSite() + ":" + wfMaster.getStageNumber());
+        }
+
+        // Initialize WF Master data for NDS site with correct stage assignments
+        String[][] ndsWfMasterData = {
+            {"1", "Register Initiative", "STLD", "manoj.tiwari@godeepak.com"},
+            {"2", "Approval", "SH", "priya.sharma@godeepak.com"},
+            {"3", "Define Responsibilities", "EH", "amit.patel@godeepak.com"},
+            // IL stages removed - they will be created dynamically after Stage 3
+            {"7", "Trial Implementation & Performance Check", "STLD", "vikram.gupta@godeepak.com"},
+            {"8", "Periodic Status Review with CMO", "CTSD", "kavya.nair@godeepak.com"},
+            {"9", "Savings Monitoring (1 Month)", "STLD", "suresh.reddy@godeepak.com"},
+            {"10", "Saving Validation with F&A", "STLD", "rohit.jain@godeepak.com"},
+            {"11", "Initiative Closure", "STLD", "ananya.verma@godeepak.com"}
+        };
+
+        // Initialize WF Master data for DHJ site with correct stage assignments
+        String[][] dhjWfMasterData = {
+            {"1", "Register Initiative", "STLD", "deepak.singh@godeepak.com"},
+            {"2", "Approval", "SH", "meera.gupta@godeepak.com"},
+            {"3", "Define Responsibilities", "EH", "arjun.mishra@godeepak.com"},
+            // IL stages removed - they will be created dynamically after Stage 3
+            {"7", "Trial Implementation & Performance Check", "STLD", "karan.sharma@godeepak.com"},
+            {"8", "Periodic Status Review with CMO", "CTSD", "ritu.nair@godeepak.com"},
+            {"9", "Savings Monitoring (1 Month)", "STLD", "ashish.verma@godeepak.com"},
+            {"10", "Saving Validation with F&A", "STLD", "sonia.jain@godeepak.com"},
+            {"11", "Initiative Closure", "STLD", "nikhil.reddy@godeepak.com"}
+        };
+
+        List<WfMaster> wfMasters = new ArrayList<>();
+
+        // NDS WF Master data
+        for (String[] data : ndsWfMasterData) {
+            if (existing.contains("NDS:" + data[0])) {
+                continue;
             }
+            wfMasters.add(new WfMaster(
+                Integer.parseInt(data[0]), // stageNumber
+                data[1], // stageName
+                data[2], // roleCode
+                "NDS", // site
+                data[3]  // userEmail
+            ));
+        }
 
-            // Save DHJ WF Master data
-            for (String[] data : dhjWfMasterData) {
-                WfMaster wfMaster = new WfMaster(
-                    Integer.parseInt(data[0]), // stageNumber
-                    data[1], // stageName
-                    data[2], // roleCode
-                    "DHJ", // site
-                    data[3]  // userEmail
-                );
-                wfMasterRepository.save(wfMaster);
+        // DHJ WF Master data
+        for (String[] data : dhjWfMasterData) {
+            if (existing.contains("DHJ:" + data[0])) {
+                continue;
             }
+            wfMasters.add(new WfMaster(
+                Integer.parseInt(data[0]), // stageNumber
+                data[1], // stageName
+                data[2], // roleCode
+                "DHJ", // site
+                data[3]  // userEmail
+            ));
+        }
 
-            System.out.println("WF Master data initialized successfully for NDS and DHJ sites!");
+        if (wfMasters.isEmpty()) {
+            return;
         }
+        // Saved in one go so the inserts are sent as a JDBC batch
+        wfMasterRepository.saveAll(wfMasters);
+
+        logger.info("WF Master data initialized: {} rows", wfMasters.size());
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.company.opexhub.config;
+
+import java.lang.reflect.Method;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Fast-start profile: beans are created on first use, apart from those that do nothing unless
+ * they exist from the start: the Hibernate listener registration, beans with scheduled jobs and
+ * the startup report.
+ */
+@Configuration
+@Profile("faststart")
+public class FastStartConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType == HibernateEventConfig.class
+                || beanType == StartupReport.class
+                || hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Scheduled>)
+                (Method method) -> AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package com.company.opexhub.config;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+
+import com.company.opexhub.service.ChangeLogListener;
+import com.company.opexhub.service.DashboardListener;
+import com.company.opexhub.service.TimelineIntervalListener;
+import com.company.opexhub.service.UserDirectoryListener;
+import com.company.opexhub.service.UserPrincipalCacheListener;
+
+/**
+ * Registers the application's Hibernate event listeners with the session factory.
+ */
+@Configuration
+public class HibernateEventConfig {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ChangeLogListener changeLogListener;
+
+    @Autowired
+    private DashboardListener dashboardListener;
+
+    @Autowired
+    private TimelineIntervalListener timelineIntervalListener;
+
+    @Autowired
+    private UserPrincipalCacheListener userPrincipalCacheListener;
+
+    @Autowired
+    private UserDirectoryListener userDirectoryListener;
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImpl.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, changeLogListener, dashboardListener,
+                timelineIntervalListener, userDirectoryListener);
+        registry.appendListeners(EventType.POST_UPDATE, changeLogListener, dashboardListener,
+                timelineIntervalListener, userPrincipalCacheListener, userDirectoryListener);
+        registry.appendListeners(EventType.POST_DELETE, changeLogListener, dashboardListener,
+                timelineIntervalListener, userPrincipalCacheListener, userDirectoryListener);
+    }
+}
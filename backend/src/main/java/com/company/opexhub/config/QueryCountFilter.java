@@ -0,0 +1,182 @@
+package com.company.opexhub.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the SQL statements each request runs, sign-in lookups included, and reports them in the
+ * X-SQL-Statement-Count header and the sql.request.statements metric per endpoint. A SELECT shape
+ * repeated sql.n-plus-one.threshold times in one request is logged and counted as a suspected N+1.
+ * Endpoints with a @QueryBudget are checked against it; with sql.budget.fail-on-exceed, meant for
+ * test runs, going over throws so the calling test fails.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    private static final int MAX_LOGGED_SQL = 300;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sql.n-plus-one.threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${sql.budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        CountingResponse countingResponse = new CountingResponse(response, scope);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            scope.close();
+        }
+        countingResponse.addCountHeader();
+
+        String uri = uri(request);
+        DistributionSummary.builder("sql.request.statements")
+                .description("SQL statements run per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getCount());
+
+        for (Map.Entry<String, Integer> repeated : scope.repeatedSelects(nPlusOneThreshold).entrySet()) {
+            Counter.builder("sql.request.n-plus-one")
+                    .description("Requests running one SELECT shape repeatedly, per shape")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("Suspected N+1 on {} {}: {} x {}", request.getMethod(), uri, repeated.getValue(),
+                    abbreviate(repeated.getKey()));
+        }
+
+        QueryBudget budget = budget(request);
+        if (budget != null && scope.getCount() > budget.value()) {
+            Counter.builder("sql.request.over-budget")
+                    .description("Requests running more SQL statements than their @QueryBudget")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            String message = request.getMethod() + " " + uri + " ran " + scope.getCount()
+                    + " SQL statements, over its budget of " + budget.value();
+            if (failOnExceed) {
+                throw new RuntimeException(message);
+            }
+            logger.warn(message);
+        }
+    }
+
+    // The mapped pattern, such as /initiatives/{id}, keeps the metric's tag count bounded
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static QueryBudget budget(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod)) {
+            return null;
+        }
+        HandlerMethod method = (HandlerMethod) handler;
+        QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+        return budget != null ? budget : AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), QueryBudget.class);
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL ? sql : sql.substring(0, MAX_LOGGED_SQL) + "...";
+    }
+
+    /**
+     * Adds the count header just before the response is committed, as headers cannot change after.
+     * Statements run while the body is being written, such as lazy loads during serialization, are
+     * in the metric but not the header.
+     */
+    private static class CountingResponse extends HttpServletResponseWrapper {
+        private final SqlStatementCounter.Scope scope;
+        private boolean headerAdded;
+
+        CountingResponse(HttpServletResponse response, SqlStatementCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        void addCountHeader() {
+            if (!headerAdded && !isCommitted()) {
+                headerAdded = true;
+                setIntHeader(HEADER, scope.getCount());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addCountHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addCountHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addCountHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.company.opexhub.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * With a durable database, Hibernate runs in validate mode so that a mismatch between the entities
+ * and a kept schema stops startup rather than being patched in place; fast-start skips even that.
+ * The one exception is a new, empty database, which gets its schema created on that first start.
+ */
+@Component
+@Profile({"prod", "faststart"})
+public class SchemaModeCustomizer implements HibernatePropertiesCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaModeCustomizer.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (!hasSchema()) {
+            logger.info("Empty database, creating the schema");
+            hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+        }
+    }
+
+    private boolean hasSchema() {
+        // Scoped to the application's schema: H2 has its own INFORMATION_SCHEMA.USERS
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData().getTables(null, connection.getSchema(), "USERS", null)) {
+            return tables.next();
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not inspect the database schema", e);
+        }
+    }
+}
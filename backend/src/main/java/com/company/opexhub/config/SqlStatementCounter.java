@@ -0,0 +1,135 @@
+package com.company.opexhub.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a scope is open, and how
+ * often each SELECT shape (the statement with literals and IN-list lengths folded away) is repeated.
+ * One shape run many times with different parameters is the signature of an N+1 lookup.
+ * QueryCountFilter opens a scope per request; tests can open their own around a call:
+ *
+ * <pre>
+ * try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+ *     mockMvc.perform(get("/api/initiatives"));
+ *     scope.assertAtMost(4);
+ *     scope.assertNoRepeatedSelects(3);
+ * }
+ * </pre>
+ *
+ * Scopes nest, and a statement counts towards every open scope on its thread. Statements run on
+ * other threads, such as the sign-in hashing pool, are not counted.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            String shape = isSelect(sql) ? shape(sql) : null;
+            for (Scope s = scope; s != null; s = s.parent) {
+                s.record(shape);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting on this thread; close the scope to stop.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    private static boolean isSelect(String sql) {
+        int i = 0;
+        while (i < sql.length() && Character.isWhitespace(sql.charAt(i))) {
+            i++;
+        }
+        return sql.regionMatches(true, i, "select", 0, 6) || sql.regionMatches(true, i, "with", 0, 4);
+    }
+
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int count;
+        private final Map<String, Integer> selects = new LinkedHashMap<>();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String selectShape) {
+            count++;
+            if (selectShape != null) {
+                selects.merge(selectShape, 1, Integer::sum);
+            }
+        }
+
+        /**
+         * Statements prepared so far in this scope.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * SELECT shapes run at least times times, with their counts, in order of first use.
+         */
+        public Map<String, Integer> repeatedSelects(int times) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> entry : selects.entrySet()) {
+                if (entry.getValue() >= times) {
+                    repeated.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return repeated.isEmpty() ? Collections.<String, Integer>emptyMap() : repeated;
+        }
+
+        public void assertAtMost(int max) {
+            if (count > max) {
+                throw new RuntimeException("Expected at most " + max + " SQL statements but " + count + " were run");
+            }
+        }
+
+        public void assertNoRepeatedSelects(int times) {
+            Map<String, Integer> repeated = repeatedSelects(times);
+            if (!repeated.isEmpty()) {
+                throw new RuntimeException("SELECT repeated " + times + " or more times: " + repeated);
+            }
+        }
+
+        @Override
+        public void close() {
+            CURRENT.set(parent);
+        }
+    }
+}
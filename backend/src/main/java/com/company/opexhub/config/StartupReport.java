@@ -0,0 +1,90 @@
+package com.company.opexhub.config;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Logs where startup time goes, in milliseconds since the JVM started: context refresh, readiness
+ * (runners and ready-time warm-ups done), background seeding, and the first successful
+ * /api/initiatives response, which is what users actually wait for after a deploy. With
+ * startup.exit-when-ready the application exits once ready, as the class-data archive training
+ * run needs.
+ */
+@Component
+public class StartupReport extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+
+    private static final String FIRST_REQUEST_PATH = "/api/initiatives";
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Value("${startup.exit-when-ready:false}")
+    private boolean exitWhenReady;
+
+    private volatile long readyAt;
+    private volatile boolean awaitingFirstResponse = true;
+
+    @EventListener
+    public void onRefreshed(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() == applicationContext) {
+            logger.info("Startup: context refreshed at {} ms", uptime());
+        }
+    }
+
+    // Last, so the time includes the other ready-time work
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onReady() {
+        readyAt = uptime();
+        logger.info("Startup: ready at {} ms", readyAt);
+        if (exitWhenReady) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    public void seedingFinished() {
+        logger.info("Startup: seeding finished at {} ms", uptime());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !awaitingFirstResponse || !request.getRequestURI().startsWith(FIRST_REQUEST_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+        if (response.getStatus() < 300 && awaitingFirstResponse) {
+            awaitingFirstResponse = false;
+            long at = uptime();
+            logger.info("Startup: first {} response at {} ms, {} ms after ready", FIRST_REQUEST_PATH, at,
+                    readyAt > 0 ? at - readyAt : 0);
+        }
+    }
+
+    private static long uptime() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
@@ -4,10 +4,17 @@ import com.company.opexhub.dto.*;
 import com.company.opexhub.entity.User;
 import com.company.opexhub.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -16,11 +23,13 @@ public class AuthController {
     @Autowired
     AuthService authService;
 
+    @Value("${auth.hashing.retry-after-seconds:5}")
+    private int retryAfterSeconds;
+
+    // Async so the request thread is released while the password is checked on the hashing pool
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            JwtResponse jwtResponse = authService.authenticateUser(loginRequest);
-            
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+        return authService.authenticateUserAsync(loginRequest).<ResponseEntity<?>>thenApply(jwtResponse -> {
             // Create response with token and user data structured for frontend
             java.util.Map<String, Object> responseData = new java.util.HashMap<>();
             responseData.put("token", jwtResponse.getToken());
@@ -38,20 +47,36 @@ public class AuthController {
             responseData.put("user", userData);
             
             return ResponseEntity.ok(new ApiResponse(true, "Login successful", responseData));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(new ApiResponse(false, "Invalid credentials!"));
-        }
+        }).exceptionally(e -> failure(e, "Invalid credentials!"));
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody SignUpRequest signUpRequest) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@Valid @RequestBody SignUpRequest signUpRequest) {
+        return authService.registerUserAsync(signUpRequest).<ResponseEntity<?>>thenApply(result ->
+                ResponseEntity.ok(new ApiResponse(true, "User registered successfully", result))
+        ).exceptionally(e -> failure(e, null));
+    }
+
+    @PostMapping("/signout")
+    public ResponseEntity<?> signOut(HttpServletRequest request) {
         try {
-            User result = authService.registerUser(signUpRequest);
-            return ResponseEntity.ok(new ApiResponse(true, "User registered successfully", result));
+            String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+            authService.signOut(header != null && header.startsWith("Bearer ") ? header.substring(7) : null);
+            return ResponseEntity.ok(new ApiResponse(true, "Signed out successfully"));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse(false, e.getMessage()));
         }
     }
+
+    private ResponseEntity<?> failure(Throwable e, String message) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(new ApiResponse(false, "Too many sign-in requests, please retry shortly"));
+        }
+        return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, message != null ? message : cause.getMessage()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.company.opexhub.controller;
+
+import com.company.opexhub.dto.ChangeFeedResponse;
+import com.company.opexhub.service.ChangeFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeFeedController {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    /**
+     * Without a cursor only the current head cursor is returned, for clients that have just done
+     * a full load. With one, the initiatives, workflow transactions, comments and monitoring
+     * entries changed since then. Monitoring entries are limited to the initiatives the user has
+     * savings monitoring access to.
+     */
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> getChanges(@RequestParam(required = false) Long cursor,
+                                                         @RequestParam(required = false) Integer limit,
+                                                         HttpServletRequest request) {
+        if (cursor == null) {
+            return ResponseEntity.ok(new ChangeFeedResponse(changeFeedService.getHeadCursor()));
+        }
+        String userEmail = (String) request.getAttribute("userEmail");
+        String userRole = (String) request.getAttribute("userRole");
+        return ResponseEntity.ok(changeFeedService.getChangesSince(cursor, limit, userEmail, userRole));
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.opexhub.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ETag handling for read endpoints backed by a data-version stamp. Responses are marked
+ * no-cache so the browser keeps them but revalidates with If-None-Match on every use. The ETags
+ * are weak: a stamp such as row count plus latest updatedAt vouches for the same data, not for a
+ * byte-identical body.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {}
+
+    /**
+     * Set the ETag for this version (and request variant, e.g. filters or paging) and report
+     * whether the client copy is current. When true the status is already 304 and the handler
+     * should return null without building a body.
+     */
+    static boolean isNotModified(WebRequest request, String version, Object... variant) {
+        // A 128-bit digest, so two filter or paging combinations do not end up sharing an ETag
+        String etag = variant.length > 0
+                ? version + "-" + DigestUtils.md5DigestAsHex(Arrays.deepToString(variant).getBytes(StandardCharsets.UTF_8))
+                : version;
+
+        if (request instanceof ServletWebRequest && ((ServletWebRequest) request).getResponse() != null) {
+            ((ServletWebRequest) request).getResponse()
+                    .setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        return request.checkNotModified("W/\"" + etag + "\"");
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.opexhub.controller;
+
+import com.company.opexhub.config.QueryBudget;
+import com.company.opexhub.dto.DashboardSummary;
+import com.company.opexhub.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    /**
+     * Counts and expected/actual savings by status, site, discipline and stage, optionally for one site.
+     * Served from memory; only a rebuild after the cells went stale queries.
+     */
+    @GetMapping
+    @QueryBudget(1)
+    public ResponseEntity<DashboardSummary> getDashboard(@RequestParam(required = false) String site) {
+        return ResponseEntity.ok(dashboardService.getSummary(site));
+    }
+}
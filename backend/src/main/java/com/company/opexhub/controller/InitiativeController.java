@@ -1,9 +1,13 @@
 package com.company.opexhub.controller;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,12 +20,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.company.opexhub.config.QueryBudget;
 import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.BulkDeleteRequest;
+import com.company.opexhub.dto.BulkDeleteResult;
+import com.company.opexhub.dto.InitiativeImportResult;
 import com.company.opexhub.dto.InitiativeRequest;
 import com.company.opexhub.dto.InitiativeResponse;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.security.UserPrincipal;
+import com.company.opexhub.service.DataVersionService;
+import com.company.opexhub.service.InitiativeDeletionService;
+import com.company.opexhub.service.InitiativeImportService;
 import com.company.opexhub.service.InitiativeService;
 
 @RestController
@@ -31,19 +43,50 @@ public class InitiativeController {
     @Autowired
     private InitiativeService initiativeService;
 
+    @Autowired
+    private InitiativeImportService initiativeImportService;
+
+    @Autowired
+    private InitiativeDeletionService initiativeDeletionService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     @GetMapping
-    public Page<InitiativeResponse> getAllInitiatives(
+    @QueryBudget(3)
+    public ResponseEntity<?> getAllInitiatives(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String site,
             @RequestParam(required = false) String search,
-            Pageable pageable) {
+            @RequestParam(required = false) List<String> fields,
+            Pageable pageable,
+            WebRequest webRequest) {
         
-        Page<Initiative> initiatives = initiativeService.searchInitiatives(status, site, search, pageable);
-        return initiatives.map(this::convertToResponse);
+        if (ConditionalGet.isNotModified(webRequest, dataVersionService.getInitiativesVersion(),
+                status, site, search, fields, pageable)) {
+            return null;
+        }
+
+        // List pages get the summary projection; the full initiative is only served by GET /{id}
+        try {
+            if (fields != null && !fields.isEmpty()) {
+                return ResponseEntity.ok(initiativeService.searchInitiativeFields(status, site, search, fields, pageable));
+            }
+            return ResponseEntity.ok(initiativeService.searchInitiativeSummaries(status, site, search, pageable));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<InitiativeResponse> getInitiativeById(@PathVariable Long id) {
+    @QueryBudget(3)
+    public ResponseEntity<InitiativeResponse> getInitiativeById(@PathVariable Long id, WebRequest webRequest) {
+        Optional<String> version = dataVersionService.getInitiativeVersion(id);
+        if (version.isPresent() && ConditionalGet.isNotModified(webRequest, version.get())) {
+            return null;
+        }
+
         return initiativeService.getInitiativeById(id)
                 .map(initiative -> ResponseEntity.ok(convertToResponse(initiative)))
                 .orElse(ResponseEntity.notFound().build());
@@ -63,6 +106,22 @@ public class InitiativeController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = {InitiativeImportService.CSV, InitiativeImportService.NDJSON})
+    public ResponseEntity<?> importInitiatives(HttpServletRequest request,
+                                               @RequestParam(required = false) Integer chunkSize,
+                                               @AuthenticationPrincipal UserPrincipal currentUser) {
+        try {
+            // Body is read as a stream so large files are never held in memory
+            InitiativeImportResult result = initiativeImportService.importInitiatives(
+                    request.getInputStream(), request.getContentType(), chunkSize, currentUser.getId());
+            String message = String.format("Imported %d of %d initiatives", result.getImported(), result.getTotalRows());
+            return ResponseEntity.ok(new ApiResponse<>(result.getFailed() == 0, message, result));
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateInitiative(@PathVariable Long id,
                                             @Valid @RequestBody InitiativeRequest request) {
@@ -87,6 +146,18 @@ public class InitiativeController {
         }
     }
 
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<?> deleteInitiatives(@Valid @RequestBody BulkDeleteRequest request) {
+        try {
+            BulkDeleteResult result = initiativeDeletionService.deleteInitiatives(request.getIds());
+            String message = String.format("Deleted %d of %d initiatives", result.getDeleted(), result.getRequested());
+            return ResponseEntity.ok(new ApiResponse<>(true, message, result));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
     // Helper method to convert Initiative entity to InitiativeResponse DTO
     private InitiativeResponse convertToResponse(Initiative initiative) {
         InitiativeResponse response = new InitiativeResponse();
@@ -97,6 +168,7 @@ public class InitiativeController {
         response.setPriority(initiative.getPriority());
         response.setExpectedSavings(initiative.getExpectedSavings());
         response.setActualSavings(initiative.getActualSavings());
+        response.setAnnualizedSavings(initiative.getAnnualizedSavings());
         response.setSite(initiative.getSite());
         response.setDiscipline(initiative.getDiscipline());
         response.setInitiativeNumber(initiative.getInitiativeNumber());
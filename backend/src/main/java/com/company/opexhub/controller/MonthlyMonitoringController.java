@@ -1,6 +1,7 @@
 package com.company.opexhub.controller;
 
 import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.MonitoringBulkRequest;
 import com.company.opexhub.entity.MonthlyMonitoringEntry;
 import com.company.opexhub.service.MonthlyMonitoringService;
 import com.company.opexhub.service.WorkflowTransactionService;
@@ -11,10 +12,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/monthly-monitoring")
@@ -133,6 +138,74 @@ public class MonthlyMonitoringController {
         }
     }
 
+    /**
+     * Create or update every KPI row of an initiative for one month in a single transaction
+     */
+    @PutMapping("/{initiativeId}/month/{monthYear}")
+    public ResponseEntity<ApiResponse<List<MonthlyMonitoringEntry>>> upsertMonthEntries(
+            @PathVariable Long initiativeId,
+            @PathVariable String monthYear,
+            @Valid @RequestBody MonitoringBulkRequest bulkRequest,
+            HttpServletRequest request) {
+        try {
+            String userEmail = (String) request.getAttribute("userEmail");
+            String userRole = (String) request.getAttribute("userRole");
+
+            // One check covers every row
+            if (userEmail != null && !workflowTransactionService.hasSavingsMonitoringAccess(initiativeId, userEmail, userRole)) {
+                return ResponseEntity
+                        .status(HttpStatus.FORBIDDEN)
+                        .body(new ApiResponse<>(false, "Access denied: Stage 9 not approved or user not assigned as STLD", null));
+            }
+
+            YearMonth month = YearMonth.parse(monthYear, DateTimeFormatter.ofPattern("yyyy-MM"));
+            List<MonthlyMonitoringEntry> entries = monthlyMonitoringService.upsertMonthEntries(
+                    initiativeId, month, bulkRequest.getEntries());
+            return ResponseEntity.ok(new ApiResponse<>(true, "Monitoring entries saved successfully", entries));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "Error saving monitoring entries: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * Create or update KPI rows for several initiatives of a site for one month; each row names its initiative
+     */
+    @PutMapping("/site/{site}/month/{monthYear}")
+    public ResponseEntity<ApiResponse<Map<Long, List<MonthlyMonitoringEntry>>>> upsertSiteMonthEntries(
+            @PathVariable String site,
+            @PathVariable String monthYear,
+            @Valid @RequestBody MonitoringBulkRequest bulkRequest,
+            HttpServletRequest request) {
+        try {
+            String userEmail = (String) request.getAttribute("userEmail");
+            String userRole = (String) request.getAttribute("userRole");
+
+            if (userEmail != null) {
+                Set<Long> initiativeIds = new LinkedHashSet<>();
+                for (MonitoringBulkRequest.Row row : bulkRequest.getEntries()) {
+                    initiativeIds.add(row.getInitiativeId());
+                }
+                Set<Long> denied = workflowTransactionService.findInitiativesWithoutSavingsMonitoringAccess(
+                        initiativeIds, userEmail, userRole);
+                if (!denied.isEmpty()) {
+                    return ResponseEntity
+                            .status(HttpStatus.FORBIDDEN)
+                            .body(new ApiResponse<>(false, "Access denied for initiatives " + denied
+                                    + ": Stage 9 not approved or user not assigned as STLD", null));
+                }
+            }
+
+            YearMonth month = YearMonth.parse(monthYear, DateTimeFormatter.ofPattern("yyyy-MM"));
+            Map<Long, List<MonthlyMonitoringEntry>> entries = monthlyMonitoringService.upsertSiteMonthEntries(
+                    site, month, bulkRequest.getEntries());
+            return ResponseEntity.ok(new ApiResponse<>(true, "Monitoring entries saved successfully", entries));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "Error saving monitoring entries: " + e.getMessage(), null));
+        }
+    }
+
     @PutMapping("/entry/{id}")
     public ResponseEntity<ApiResponse<MonthlyMonitoringEntry>> updateMonitoringEntry(
             @PathVariable Long id,
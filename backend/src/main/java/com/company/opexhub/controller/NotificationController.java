@@ -0,0 +1,52 @@
+package com.company.opexhub.controller;
+
+import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.security.UserPrincipal;
+import com.company.opexhub.service.NotificationService;
+import com.company.opexhub.service.StreamTicketService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    public static final String STREAM_PATH = "/api/notifications/stream";
+
+    public static final String TICKET_PARAM = "ticket";
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private StreamTicketService streamTicketService;
+
+    /**
+     * A single-use ticket for opening the stream, which EventSource passes as ?ticket= since it
+     * cannot send the Authorization header.
+     */
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<?> streamTicket(@AuthenticationPrincipal UserPrincipal currentUser) {
+        String ticket = streamTicketService.issue(currentUser.getId());
+        return ResponseEntity.ok(new ApiResponse(true, "Stream ticket issued", Collections.singletonMap(TICKET_PARAM, ticket)));
+    }
+
+    /**
+     * Event stream of inbox additions/removals and initiative status changes for the current user,
+     * opened with a ticket from /stream-ticket. Missed events are replayed from Last-Event-ID; a
+     * client opening a new EventSource with a fresh ticket, which cannot set that header, passes
+     * the last id it saw as ?lastEventId= instead.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipal currentUser,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                             @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        return notificationService.subscribe(currentUser, lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+    }
+}
@@ -1,15 +1,22 @@
 package com.company.opexhub.controller;
 
+import com.company.opexhub.config.QueryBudget;
+import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.SavingsTimeSeries;
+import com.company.opexhub.service.DataVersionService;
 import com.company.opexhub.service.ReportsService;
+import com.company.opexhub.service.SavingsTimeSeriesService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.ByteArrayOutputStream;
 import java.text.SimpleDateFormat;
+import java.time.YearMonth;
 import java.util.Date;
 
 @RestController
@@ -19,7 +26,38 @@ public class ReportsController {
     @Autowired
     private ReportsService reportsService;
 
+    @Autowired
+    private SavingsTimeSeriesService savingsTimeSeriesService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    /**
+     * Monthly target vs. achieved savings for a fiscal year (default: the current one), grouped by
+     * initiative, site or discipline, with cumulative, rolling 3/12-month and year-to-date sums.
+     */
+    @GetMapping("/savings-time-series")
+    public ResponseEntity<?> getSavingsTimeSeries(
+            @RequestParam(required = false) Integer fiscalYear,
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String site,
+            WebRequest webRequest) {
+        try {
+            int year = fiscalYear != null ? fiscalYear : savingsTimeSeriesService.fiscalYearOf(YearMonth.now());
+            if (ConditionalGet.isNotModified(webRequest, dataVersionService.getMonitoringEntriesVersion(),
+                    year, groupBy, site)) {
+                return null;
+            }
+            SavingsTimeSeries timeSeries = savingsTimeSeriesService.getTimeSeries(year, groupBy, site);
+            return ResponseEntity.ok(timeSeries);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
     @GetMapping("/export/detailed-excel")
+    @QueryBudget(2)
     public ResponseEntity<ByteArrayResource> exportDetailedExcel(
             @RequestParam(required = false) String site,
             @RequestParam(required = false) String year) {
@@ -48,6 +86,7 @@ public class ReportsController {
     }
 
     @GetMapping("/export/initiative-form/{initiativeId}")
+    @QueryBudget(2)
     public ResponseEntity<ByteArrayResource> exportInitiativeForm(@PathVariable String initiativeId) {
         try {
             // Validate initiative ID
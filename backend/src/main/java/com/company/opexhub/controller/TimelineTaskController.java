@@ -1,13 +1,20 @@
 package com.company.opexhub.controller;
 
 import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.CriticalPath;
+import com.company.opexhub.dto.TimelineInterval;
 import com.company.opexhub.entity.TimelineTask;
+import com.company.opexhub.entity.TimelineTaskDependency;
+import com.company.opexhub.service.CriticalPathService;
+import com.company.opexhub.service.TimelineIntervalIndex;
 import com.company.opexhub.service.TimelineTaskService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,11 +24,54 @@ public class TimelineTaskController {
     @Autowired
     private TimelineTaskService timelineTaskService;
 
+    @Autowired
+    private TimelineIntervalIndex timelineIntervalIndex;
+
+    @Autowired
+    private CriticalPathService criticalPathService;
+
     @GetMapping("/initiative/{initiativeId}")
     public List<TimelineTask> getTasksByInitiative(@PathVariable Long initiativeId) {
         return timelineTaskService.getTasksByInitiative(initiativeId);
     }
 
+    /**
+     * Tasks running on a date, optionally for one site and/or responsible person
+     */
+    @GetMapping("/active")
+    public ResponseEntity<?> getActiveTasks(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String site,
+            @RequestParam(required = false) String responsible) {
+        try {
+            List<TimelineInterval> tasks = timelineIntervalIndex.findOverlapping(
+                    TimelineInterval.TASK, date, date, site, responsible);
+            return ResponseEntity.ok(new ApiResponse(true, "Active tasks retrieved successfully", tasks));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    /**
+     * Tasks overlapping a date range, optionally for one site and/or responsible person
+     */
+    @GetMapping("/overlapping")
+    public ResponseEntity<?> getOverlappingTasks(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String site,
+            @RequestParam(required = false) String responsible) {
+        try {
+            List<TimelineInterval> tasks = timelineIntervalIndex.findOverlapping(
+                    TimelineInterval.TASK, from, to, site, responsible);
+            return ResponseEntity.ok(new ApiResponse(true, "Overlapping tasks retrieved successfully", tasks));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TimelineTask> getTaskById(@PathVariable Long id) {
         return timelineTaskService.getTaskById(id)
@@ -72,4 +122,45 @@ public class TimelineTaskController {
                     .body(new ApiResponse(false, e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Projected schedule, slack and critical path of an initiative's tasks
+     */
+    @GetMapping("/initiative/{initiativeId}/critical-path")
+    public ResponseEntity<?> getCriticalPath(@PathVariable Long initiativeId) {
+        try {
+            CriticalPath criticalPath = criticalPathService.getCriticalPath(initiativeId);
+            return ResponseEntity.ok(new ApiResponse(true, "Critical path retrieved successfully", criticalPath));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    @GetMapping("/initiative/{initiativeId}/dependencies")
+    public List<TimelineTaskDependency> getDependencies(@PathVariable Long initiativeId) {
+        return criticalPathService.getDependencies(initiativeId);
+    }
+
+    @PostMapping("/{id}/predecessors/{predecessorId}")
+    public ResponseEntity<?> addPredecessor(@PathVariable Long id, @PathVariable Long predecessorId) {
+        try {
+            TimelineTaskDependency dependency = criticalPathService.addDependency(predecessorId, id);
+            return ResponseEntity.ok(new ApiResponse(true, "Dependency added successfully", dependency));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}/predecessors/{predecessorId}")
+    public ResponseEntity<?> removePredecessor(@PathVariable Long id, @PathVariable Long predecessorId) {
+        try {
+            criticalPathService.removeDependency(predecessorId, id);
+            return ResponseEntity.ok(new ApiResponse(true, "Dependency removed successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+}
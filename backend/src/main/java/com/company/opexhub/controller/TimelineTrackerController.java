@@ -1,18 +1,31 @@
 package com.company.opexhub.controller;
 
 import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.TimelineInterval;
+import com.company.opexhub.dto.TimelineStatusRefresh;
 import com.company.opexhub.entity.TimelineEntry;
+import com.company.opexhub.service.DataVersionService;
 import com.company.opexhub.service.TimelineEntryService;
+import com.company.opexhub.service.TimelineGanttService;
+import com.company.opexhub.service.TimelineIntervalIndex;
+import com.company.opexhub.service.TimelineStatusRefreshService;
 import com.company.opexhub.service.WorkflowTransactionService;
 import com.company.opexhub.dto.WorkflowTransactionDetailDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/timeline-tracker")
@@ -25,6 +38,67 @@ public class TimelineTrackerController {
     @Autowired
     private WorkflowTransactionService workflowTransactionService;
 
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TimelineStatusRefreshService timelineStatusRefreshService;
+
+    @Autowired
+    private TimelineIntervalIndex timelineIntervalIndex;
+
+    @Autowired
+    private TimelineGanttService timelineGanttService;
+
+    /**
+     * Timeline entries and tasks of every initiative in a site overlapping a date window, streamed
+     * as one response for the portfolio Gantt view
+     */
+    @GetMapping("/gantt")
+    public ResponseEntity<ApiResponse<Void>> getGantt(
+            @RequestParam String site,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String discipline,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        try {
+            if (to.isBefore(from)) {
+                throw new RuntimeException("End date must not be before start date");
+            }
+            // Same access rule as the per-initiative timeline, applied to the whole site at once
+            String userEmail = (String) request.getAttribute("userEmail");
+            Set<Long> allowed = userEmail != null
+                    ? workflowTransactionService.findTimelineTrackerInitiativeIds(site, userEmail)
+                    : null;
+
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            timelineGanttService.writeGantt(site, from, to, status, discipline, allowed, response.getOutputStream());
+            return null;
+        } catch (Exception e) {
+            if (response.isCommitted()) {
+                // Part of the body is already on the wire; the client sees a truncated document
+                throw new IllegalStateException("Gantt stream failed", e);
+            }
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "Error retrieving Gantt: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * When the date-driven status refresh last ran and how many rows it changed
+     */
+    @GetMapping("/status-refresh")
+    public ResponseEntity<ApiResponse<TimelineStatusRefresh>> getStatusRefresh() {
+        TimelineStatusRefresh lastRun = timelineStatusRefreshService.getLastRun();
+        if (lastRun == null) {
+            return ResponseEntity.ok(new ApiResponse<>(true, "Status refresh has not run yet", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Last status refresh retrieved successfully", lastRun));
+    }
+
     /**
      * Get initiatives where Stage 6 is approved and user has access
      */
@@ -41,10 +115,58 @@ public class TimelineTrackerController {
         }
     }
 
+    /**
+     * Timeline entries whose planned dates overlap a range, optionally for one site and/or responsible person
+     */
+    @GetMapping("/entries/overlapping")
+    public ResponseEntity<ApiResponse<List<TimelineInterval>>> getOverlappingEntries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String site,
+            @RequestParam(required = false) String responsible) {
+        try {
+            List<TimelineInterval> entries = timelineIntervalIndex.findOverlapping(
+                    TimelineInterval.ENTRY, from, to, site, responsible);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Overlapping timeline entries retrieved successfully", entries));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "Error retrieving timeline entries: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * Timeline entries planned to be running on a date
+     */
+    @GetMapping("/entries/active")
+    public ResponseEntity<ApiResponse<List<TimelineInterval>>> getActiveEntries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String site,
+            @RequestParam(required = false) String responsible) {
+        return getOverlappingEntries(date, date, site, responsible);
+    }
+
+    /**
+     * Tasks and timeline entries overlapping a range, grouped by responsible person
+     */
+    @GetMapping("/workload")
+    public ResponseEntity<ApiResponse<Map<String, List<TimelineInterval>>>> getWorkload(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String site) {
+        try {
+            Map<String, List<TimelineInterval>> workload = timelineIntervalIndex.findWorkload(from, to, site);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Workload retrieved successfully", workload));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "Error retrieving workload: " + e.getMessage(), null));
+        }
+    }
+
     @GetMapping("/{initiativeId}")
     public ResponseEntity<ApiResponse<List<TimelineEntry>>> getTimelineEntries(
             @PathVariable Long initiativeId,
-            HttpServletRequest request) {
+            HttpServletRequest request,
+            WebRequest webRequest) {
         try {
             // Get user email from request (assuming it's set in authentication)
             String userEmail = (String) request.getAttribute("userEmail");
@@ -56,6 +178,10 @@ public class TimelineTrackerController {
         .body(new ApiResponse<>(false, "Access denied: Stage 6 not approved or user not assigned", null));
             }
             
+            if (ConditionalGet.isNotModified(webRequest, dataVersionService.getTimelineEntriesVersion(initiativeId))) {
+                return null;
+            }
+            
             List<TimelineEntry> entries = timelineEntryService.getTimelineEntriesByInitiative(initiativeId);
             return ResponseEntity.ok(new ApiResponse<>(true, "Timeline entries retrieved successfully", entries));
         } catch (Exception e) {
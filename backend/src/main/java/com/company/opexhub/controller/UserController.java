@@ -1,8 +1,7 @@
 package com.company.opexhub.controller;
 
-import com.company.opexhub.dto.ApiResponse;
-import com.company.opexhub.entity.User;
-import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.dto.UserSummary;
+import com.company.opexhub.service.UserDirectory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,53 +12,67 @@ import java.util.List;
 @RequestMapping("/api/users")
 public class UserController {
 
+    // Pickers and lists are served from memory
     @Autowired
-    private UserRepository userRepository;
+    private UserDirectory userDirectory;
 
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userRepository.findAll();
+    public ResponseEntity<List<UserSummary>> getAllUsers() {
+        List<UserSummary> users = userDirectory.list(null, null);
         return ResponseEntity.ok(users);
     }
 
     @GetMapping("/site/{site}")
-    public ResponseEntity<List<User>> getUsersBySite(@PathVariable String site) {
-        List<User> users = userRepository.findBySite(site);
+    public ResponseEntity<List<UserSummary>> getUsersBySite(@PathVariable String site) {
+        List<UserSummary> users = userDirectory.list(site, null);
         return ResponseEntity.ok(users);
     }
 
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<User>> getUsersByRole(@PathVariable String role) {
-        List<User> users = userRepository.findByRole(role);
+    public ResponseEntity<List<UserSummary>> getUsersByRole(@PathVariable String role) {
+        List<UserSummary> users = userDirectory.list(null, role);
         return ResponseEntity.ok(users);
     }
 
     @GetMapping("/site/{site}/role/{role}")
-    public ResponseEntity<List<User>> getUsersBySiteAndRole(
+    public ResponseEntity<List<UserSummary>> getUsersBySiteAndRole(
             @PathVariable String site, 
             @PathVariable String role) {
-        List<User> users = userRepository.findBySiteAndRole(site, role);
+        List<UserSummary> users = userDirectory.list(site, role);
         return ResponseEntity.ok(users);
     }
 
     @GetMapping("/site/{site}/discipline/{discipline}")
-    public ResponseEntity<List<User>> getUsersBySiteAndDiscipline(
+    public ResponseEntity<List<UserSummary>> getUsersBySiteAndDiscipline(
             @PathVariable String site, 
             @PathVariable String discipline) {
-        List<User> users = userRepository.findBySiteAndDiscipline(site, discipline);
+        List<UserSummary> users = userDirectory.listByDiscipline(site, discipline);
         return ResponseEntity.ok(users);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<User>> searchUsersByName(@RequestParam String name) {
-        List<User> users = userRepository.findByFullNameContaining(name);
+    public ResponseEntity<List<UserSummary>> searchUsersByName(@RequestParam String name) {
+        List<UserSummary> users = userDirectory.search(name, null, null, UserDirectory.MAX_RESULTS);
+        return ResponseEntity.ok(users);
+    }
+
+    /**
+     * Top matches for an assignee picker: each word typed must start a word of the name or the email.
+     */
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<UserSummary>> typeahead(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) String site,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<UserSummary> users = userDirectory.search(q, site, role, limit);
         return ResponseEntity.ok(users);
     }
 
     @GetMapping("/initiative-leads/{site}")
-    public ResponseEntity<List<User>> getInitiativeLeadsBySite(@PathVariable String site) {
+    public ResponseEntity<List<UserSummary>> getInitiativeLeadsBySite(@PathVariable String site) {
         // Get IL users specifically for this site
-        List<User> users = userRepository.findBySiteAndRole(site, "IL");
+        List<UserSummary> users = userDirectory.list(site, "IL");
         return ResponseEntity.ok(users);
     }
-}
\ No newline at end of file
+}
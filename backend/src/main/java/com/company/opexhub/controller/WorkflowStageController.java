@@ -3,11 +3,15 @@ package com.company.opexhub.controller;
 import com.company.opexhub.entity.WorkflowStage;
 import com.company.opexhub.service.WorkflowStageService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/workflow-stages")
@@ -17,27 +21,54 @@ public class WorkflowStageController {
     @Autowired
     private WorkflowStageService workflowStageService;
 
+    // Stage master data only changes with a release, so clients may reuse it for an hour without asking
+    private static final CacheControl MASTER_DATA_CACHE = CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate();
+
     @GetMapping("/site/{site}")
     public ResponseEntity<List<WorkflowStage>> getStagesBySite(@PathVariable String site) {
         List<WorkflowStage> stages = workflowStageService.getAllStagesBySite(site);
-        return ResponseEntity.ok(stages);
+        return cached(stages);
     }
 
     @GetMapping("/site/{site}/stage/{stageNumber}")
     public ResponseEntity<WorkflowStage> getStageByNumber(@PathVariable String site, @PathVariable Integer stageNumber) {
         Optional<WorkflowStage> stage = workflowStageService.getStageByNumber(site, stageNumber);
-        return stage.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return stage.map(this::cached).orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/role/{role}")
     public ResponseEntity<List<WorkflowStage>> getStagesByRole(@PathVariable String role) {
         List<WorkflowStage> stages = workflowStageService.getStagesByRole(role);
-        return ResponseEntity.ok(stages);
+        return cached(stages);
     }
 
     @GetMapping("/site/{site}/role/{role}")
     public ResponseEntity<List<WorkflowStage>> getStagesBySiteAndRole(@PathVariable String site, @PathVariable String role) {
         List<WorkflowStage> stages = workflowStageService.getStagesBySiteAndRole(site, role);
-        return ResponseEntity.ok(stages);
+        return cached(stages);
+    }
+
+    private ResponseEntity<List<WorkflowStage>> cached(List<WorkflowStage> stages) {
+        // Spring answers a matching If-None-Match with 304 before writing the body
+        return ResponseEntity.ok()
+                .cacheControl(MASTER_DATA_CACHE)
+                .eTag(contentETag(stages))
+                .body(stages);
+    }
+
+    private ResponseEntity<WorkflowStage> cached(WorkflowStage stage) {
+        return ResponseEntity.ok()
+                .cacheControl(MASTER_DATA_CACHE)
+                .eTag(contentETag(Collections.singletonList(stage)))
+                .body(stage);
+    }
+
+    private String contentETag(List<WorkflowStage> stages) {
+        int hash = 1;
+        for (WorkflowStage stage : stages) {
+            hash = 31 * hash + Objects.hash(stage.getId(), stage.getStageNumber(), stage.getStageName(),
+                    stage.getRequiredRole(), stage.getSite());
+        }
+        return "\"ws-" + stages.size() + "-" + Integer.toHexString(hash) + "\"";
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,17 @@
 package com.company.opexhub.controller;
 
+import com.company.opexhub.config.QueryBudget;
 import com.company.opexhub.dto.ApiResponse;
 import com.company.opexhub.dto.WorkflowTransactionDetailDTO;
 import com.company.opexhub.entity.WorkflowTransaction;
 import com.company.opexhub.security.UserPrincipal;
+import com.company.opexhub.service.DataVersionService;
 import com.company.opexhub.service.WorkflowTransactionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -20,13 +23,24 @@ public class WorkflowTransactionController {
     @Autowired
     private WorkflowTransactionService workflowTransactionService;
 
+    @Autowired
+    private DataVersionService dataVersionService;
+
     @GetMapping("/initiative/{initiativeId}")
-    public List<WorkflowTransaction> getWorkflowTransactions(@PathVariable Long initiativeId) {
+    @QueryBudget(3)
+    public List<WorkflowTransaction> getWorkflowTransactions(@PathVariable Long initiativeId, WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, dataVersionService.getWorkflowTransactionsVersion(initiativeId))) {
+            return null;
+        }
         return workflowTransactionService.getWorkflowTransactions(initiativeId);
     }
     
     @GetMapping("/visible/{initiativeId}")
-    public List<WorkflowTransactionDetailDTO> getVisibleWorkflowTransactions(@PathVariable Long initiativeId) {
+    public List<WorkflowTransactionDetailDTO> getVisibleWorkflowTransactions(@PathVariable Long initiativeId,
+                                                                             WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, dataVersionService.getWorkflowTransactionsVersion(initiativeId), "visible")) {
+            return null;
+        }
         return workflowTransactionService.getVisibleWorkflowTransactions(initiativeId);
     }
 
@@ -0,0 +1,21 @@
+package com.company.opexhub.dto;
+
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+
+public class BulkDeleteRequest {
+    @NotEmpty
+    private List<Long> ids;
+
+    // Constructors
+    public BulkDeleteRequest() {}
+
+    public BulkDeleteRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+}
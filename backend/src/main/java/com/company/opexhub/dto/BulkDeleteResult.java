@@ -0,0 +1,23 @@
+package com.company.opexhub.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkDeleteResult {
+    private int requested;
+    private int deleted;
+    private List<Long> notFound = new ArrayList<>();
+
+    // Constructors
+    public BulkDeleteResult() {}
+
+    // Getters and Setters
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getDeleted() { return deleted; }
+    public void setDeleted(int deleted) { this.deleted = deleted; }
+
+    public List<Long> getNotFound() { return notFound; }
+    public void setNotFound(List<Long> notFound) { this.notFound = notFound; }
+}
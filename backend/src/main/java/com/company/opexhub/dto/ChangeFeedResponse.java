@@ -0,0 +1,67 @@
+package com.company.opexhub.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.company.opexhub.entity.Comment;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.entity.WorkflowTransaction;
+
+/**
+ * One page of the change feed: the current state of everything changed after the request cursor,
+ * plus the ids of what was deleted. Pass {@code cursor} back to fetch the next page.
+ */
+public class ChangeFeedResponse {
+    private Long cursor;
+    private Boolean hasMore = false;
+    private List<InitiativeSummary> initiatives = new ArrayList<>();
+    private List<WorkflowTransaction> workflowTransactions = new ArrayList<>();
+    private List<Comment> comments = new ArrayList<>();
+    private List<MonthlyMonitoringEntry> monitoringEntries = new ArrayList<>();
+    private List<Deletion> deleted = new ArrayList<>();
+
+    // Constructors
+    public ChangeFeedResponse() {}
+
+    public ChangeFeedResponse(Long cursor) {
+        this.cursor = cursor;
+    }
+
+    // Getters and Setters
+    public Long getCursor() { return cursor; }
+    public void setCursor(Long cursor) { this.cursor = cursor; }
+
+    public Boolean getHasMore() { return hasMore; }
+    public void setHasMore(Boolean hasMore) { this.hasMore = hasMore; }
+
+    public List<InitiativeSummary> getInitiatives() { return initiatives; }
+    public void setInitiatives(List<InitiativeSummary> initiatives) { this.initiatives = initiatives; }
+
+    public List<WorkflowTransaction> getWorkflowTransactions() { return workflowTransactions; }
+    public void setWorkflowTransactions(List<WorkflowTransaction> workflowTransactions) { this.workflowTransactions = workflowTransactions; }
+
+    public List<Comment> getComments() { return comments; }
+    public void setComments(List<Comment> comments) { this.comments = comments; }
+
+    public List<MonthlyMonitoringEntry> getMonitoringEntries() { return monitoringEntries; }
+    public void setMonitoringEntries(List<MonthlyMonitoringEntry> monitoringEntries) { this.monitoringEntries = monitoringEntries; }
+
+    public List<Deletion> getDeleted() { return deleted; }
+    public void setDeleted(List<Deletion> deleted) { this.deleted = deleted; }
+
+    public static class Deletion {
+        private String type;
+        private Long id;
+
+        public Deletion(String type, Long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+    }
+}
@@ -0,0 +1,95 @@
+package com.company.opexhub.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CriticalPath {
+    private Long initiativeId;
+    private LocalDate asOf;
+    private LocalDate targetEndDate;
+    private LocalDate projectedFinish;
+    // Days the projected finish lies beyond the initiative end date; negative when ahead
+    private Long varianceDays;
+    private List<Long> criticalTaskIds = new ArrayList<>();
+    private List<TaskSchedule> tasks = new ArrayList<>();
+
+    // Constructors
+    public CriticalPath() {}
+
+    public CriticalPath(Long initiativeId, LocalDate asOf) {
+        this.initiativeId = initiativeId;
+        this.asOf = asOf;
+    }
+
+    // Getters and Setters
+    public Long getInitiativeId() { return initiativeId; }
+    public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+    public LocalDate getAsOf() { return asOf; }
+    public void setAsOf(LocalDate asOf) { this.asOf = asOf; }
+
+    public LocalDate getTargetEndDate() { return targetEndDate; }
+    public void setTargetEndDate(LocalDate targetEndDate) { this.targetEndDate = targetEndDate; }
+
+    public LocalDate getProjectedFinish() { return projectedFinish; }
+    public void setProjectedFinish(LocalDate projectedFinish) { this.projectedFinish = projectedFinish; }
+
+    public Long getVarianceDays() { return varianceDays; }
+    public void setVarianceDays(Long varianceDays) { this.varianceDays = varianceDays; }
+
+    public List<Long> getCriticalTaskIds() { return criticalTaskIds; }
+    public void setCriticalTaskIds(List<Long> criticalTaskIds) { this.criticalTaskIds = criticalTaskIds; }
+
+    public List<TaskSchedule> getTasks() { return tasks; }
+    public void setTasks(List<TaskSchedule> tasks) { this.tasks = tasks; }
+
+    /**
+     * One task's projected window and how far it can slip before the projected finish moves.
+     */
+    public static class TaskSchedule {
+        private Long taskId;
+        private String title;
+        private List<Long> predecessorIds = new ArrayList<>();
+        private LocalDate earlyStart;
+        private LocalDate earlyFinish;
+        private LocalDate lateStart;
+        private LocalDate lateFinish;
+        private long slackDays;
+        private boolean critical;
+
+        public TaskSchedule() {}
+
+        public TaskSchedule(Long taskId, String title) {
+            this.taskId = taskId;
+            this.title = title;
+        }
+
+        public Long getTaskId() { return taskId; }
+        public void setTaskId(Long taskId) { this.taskId = taskId; }
+
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+
+        public List<Long> getPredecessorIds() { return predecessorIds; }
+        public void setPredecessorIds(List<Long> predecessorIds) { this.predecessorIds = predecessorIds; }
+
+        public LocalDate getEarlyStart() { return earlyStart; }
+        public void setEarlyStart(LocalDate earlyStart) { this.earlyStart = earlyStart; }
+
+        public LocalDate getEarlyFinish() { return earlyFinish; }
+        public void setEarlyFinish(LocalDate earlyFinish) { this.earlyFinish = earlyFinish; }
+
+        public LocalDate getLateStart() { return lateStart; }
+        public void setLateStart(LocalDate lateStart) { this.lateStart = lateStart; }
+
+        public LocalDate getLateFinish() { return lateFinish; }
+        public void setLateFinish(LocalDate lateFinish) { this.lateFinish = lateFinish; }
+
+        public long getSlackDays() { return slackDays; }
+        public void setSlackDays(long slackDays) { this.slackDays = slackDays; }
+
+        public boolean isCritical() { return critical; }
+        public void setCritical(boolean critical) { this.critical = critical; }
+    }
+}
@@ -0,0 +1,53 @@
+package com.company.opexhub.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class DashboardSummary {
+    private Bucket total = new Bucket();
+    private Map<String, Bucket> byStatus = new TreeMap<>();
+    private Map<String, Bucket> bySite = new TreeMap<>();
+    private Map<String, Bucket> byDiscipline = new TreeMap<>();
+    private Map<Integer, Bucket> byStage = new TreeMap<>();
+
+    // Constructors
+    public DashboardSummary() {}
+
+    // Getters and Setters
+    public Bucket getTotal() { return total; }
+    public void setTotal(Bucket total) { this.total = total; }
+
+    public Map<String, Bucket> getByStatus() { return byStatus; }
+    public void setByStatus(Map<String, Bucket> byStatus) { this.byStatus = byStatus; }
+
+    public Map<String, Bucket> getBySite() { return bySite; }
+    public void setBySite(Map<String, Bucket> bySite) { this.bySite = bySite; }
+
+    public Map<String, Bucket> getByDiscipline() { return byDiscipline; }
+    public void setByDiscipline(Map<String, Bucket> byDiscipline) { this.byDiscipline = byDiscipline; }
+
+    public Map<Integer, Bucket> getByStage() { return byStage; }
+    public void setByStage(Map<Integer, Bucket> byStage) { this.byStage = byStage; }
+
+    public static class Bucket {
+        private long count;
+        private BigDecimal expectedSavings = BigDecimal.ZERO;
+        private BigDecimal actualSavings = BigDecimal.ZERO;
+
+        public void add(long count, BigDecimal expectedSavings, BigDecimal actualSavings) {
+            this.count += count;
+            this.expectedSavings = this.expectedSavings.add(expectedSavings);
+            this.actualSavings = this.actualSavings.add(actualSavings);
+        }
+
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+
+        public BigDecimal getExpectedSavings() { return expectedSavings; }
+        public void setExpectedSavings(BigDecimal expectedSavings) { this.expectedSavings = expectedSavings; }
+
+        public BigDecimal getActualSavings() { return actualSavings; }
+        public void setActualSavings(BigDecimal actualSavings) { this.actualSavings = actualSavings; }
+    }
+}
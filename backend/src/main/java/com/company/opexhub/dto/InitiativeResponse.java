@@ -12,6 +12,7 @@ public class InitiativeResponse {
     private String priority;
     private BigDecimal expectedSavings;
     private BigDecimal actualSavings;
+    private BigDecimal annualizedSavings;
     private String site;
     private String discipline;
     private String category;
@@ -85,6 +86,9 @@ public class InitiativeResponse {
     public BigDecimal getActualSavings() { return actualSavings; }
     public void setActualSavings(BigDecimal actualSavings) { this.actualSavings = actualSavings; }
 
+    public BigDecimal getAnnualizedSavings() { return annualizedSavings; }
+    public void setAnnualizedSavings(BigDecimal annualizedSavings) { this.annualizedSavings = annualizedSavings; }
+
     public String getSite() { return site; }
     public void setSite(String site) { this.site = site; }
 
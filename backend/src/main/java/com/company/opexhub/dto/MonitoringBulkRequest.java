@@ -0,0 +1,70 @@
+package com.company.opexhub.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+public class MonitoringBulkRequest {
+    @NotEmpty
+    @Valid
+    private List<Row> entries;
+
+    // Constructors
+    public MonitoringBulkRequest() {}
+
+    // Getters and Setters
+    public List<Row> getEntries() { return entries; }
+    public void setEntries(List<Row> entries) { this.entries = entries; }
+
+    /**
+     * One KPI row. Matched to an existing entry by id, or else by KPI description within the
+     * initiative and month; unmatched rows are inserted.
+     */
+    public static class Row {
+        private Long id;
+
+        // Required for site-wide requests; taken from the path otherwise
+        private Long initiativeId;
+
+        @NotBlank
+        private String kpiDescription;
+
+        @NotNull
+        private BigDecimal targetValue;
+
+        private BigDecimal achievedValue;
+        private String remarks;
+        private String category;
+
+        @NotBlank
+        private String enteredBy;
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public Long getInitiativeId() { return initiativeId; }
+        public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+        public String getKpiDescription() { return kpiDescription; }
+        public void setKpiDescription(String kpiDescription) { this.kpiDescription = kpiDescription; }
+
+        public BigDecimal getTargetValue() { return targetValue; }
+        public void setTargetValue(BigDecimal targetValue) { this.targetValue = targetValue; }
+
+        public BigDecimal getAchievedValue() { return achievedValue; }
+        public void setAchievedValue(BigDecimal achievedValue) { this.achievedValue = achievedValue; }
+
+        public String getRemarks() { return remarks; }
+        public void setRemarks(String remarks) { this.remarks = remarks; }
+
+        public String getCategory() { return category; }
+        public void setCategory(String category) { this.category = category; }
+
+        public String getEnteredBy() { return enteredBy; }
+        public void setEnteredBy(String enteredBy) { this.enteredBy = enteredBy; }
+    }
+}
@@ -0,0 +1,91 @@
+package com.company.opexhub.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SavingsTimeSeries {
+    private int fiscalYear;
+    private String groupBy;
+    private List<YearMonth> months = new ArrayList<>();
+    private List<Series> series = new ArrayList<>();
+
+    // Constructors
+    public SavingsTimeSeries() {}
+
+    public SavingsTimeSeries(int fiscalYear, String groupBy) {
+        this.fiscalYear = fiscalYear;
+        this.groupBy = groupBy;
+    }
+
+    // Getters and Setters
+    public int getFiscalYear() { return fiscalYear; }
+    public void setFiscalYear(int fiscalYear) { this.fiscalYear = fiscalYear; }
+
+    public String getGroupBy() { return groupBy; }
+    public void setGroupBy(String groupBy) { this.groupBy = groupBy; }
+
+    public List<YearMonth> getMonths() { return months; }
+    public void setMonths(List<YearMonth> months) { this.months = months; }
+
+    public List<Series> getSeries() { return series; }
+    public void setSeries(List<Series> series) { this.series = series; }
+
+    /**
+     * Values for one initiative, site or discipline, one element per month of the fiscal year.
+     * Cumulative totals run from the first month ever recorded.
+     */
+    public static class Series {
+        private String key;
+        private List<BigDecimal> target = new ArrayList<>();
+        private List<BigDecimal> achieved = new ArrayList<>();
+        private List<BigDecimal> cumulativeTarget = new ArrayList<>();
+        private List<BigDecimal> cumulativeAchieved = new ArrayList<>();
+        private List<BigDecimal> rolling3Target = new ArrayList<>();
+        private List<BigDecimal> rolling3Achieved = new ArrayList<>();
+        private List<BigDecimal> rolling12Target = new ArrayList<>();
+        private List<BigDecimal> rolling12Achieved = new ArrayList<>();
+        private List<BigDecimal> fytdTarget = new ArrayList<>();
+        private List<BigDecimal> fytdAchieved = new ArrayList<>();
+
+        public Series() {}
+
+        public Series(String key) {
+            this.key = key;
+        }
+
+        public String getKey() { return key; }
+        public void setKey(String key) { this.key = key; }
+
+        public List<BigDecimal> getTarget() { return target; }
+        public void setTarget(List<BigDecimal> target) { this.target = target; }
+
+        public List<BigDecimal> getAchieved() { return achieved; }
+        public void setAchieved(List<BigDecimal> achieved) { this.achieved = achieved; }
+
+        public List<BigDecimal> getCumulativeTarget() { return cumulativeTarget; }
+        public void setCumulativeTarget(List<BigDecimal> cumulativeTarget) { this.cumulativeTarget = cumulativeTarget; }
+
+        public List<BigDecimal> getCumulativeAchieved() { return cumulativeAchieved; }
+        public void setCumulativeAchieved(List<BigDecimal> cumulativeAchieved) { this.cumulativeAchieved = cumulativeAchieved; }
+
+        public List<BigDecimal> getRolling3Target() { return rolling3Target; }
+        public void setRolling3Target(List<BigDecimal> rolling3Target) { this.rolling3Target = rolling3Target; }
+
+        public List<BigDecimal> getRolling3Achieved() { return rolling3Achieved; }
+        public void setRolling3Achieved(List<BigDecimal> rolling3Achieved) { this.rolling3Achieved = rolling3Achieved; }
+
+        public List<BigDecimal> getRolling12Target() { return rolling12Target; }
+        public void setRolling12Target(List<BigDecimal> rolling12Target) { this.rolling12Target = rolling12Target; }
+
+        public List<BigDecimal> getRolling12Achieved() { return rolling12Achieved; }
+        public void setRolling12Achieved(List<BigDecimal> rolling12Achieved) { this.rolling12Achieved = rolling12Achieved; }
+
+        public List<BigDecimal> getFytdTarget() { return fytdTarget; }
+        public void setFytdTarget(List<BigDecimal> fytdTarget) { this.fytdTarget = fytdTarget; }
+
+        public List<BigDecimal> getFytdAchieved() { return fytdAchieved; }
+        public void setFytdAchieved(List<BigDecimal> fytdAchieved) { this.fytdAchieved = fytdAchieved; }
+    }
+}
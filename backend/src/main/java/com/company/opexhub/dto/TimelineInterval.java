@@ -0,0 +1,56 @@
+package com.company.opexhub.dto;
+
+import java.time.LocalDate;
+
+public class TimelineInterval {
+    public static final String TASK = "TASK";
+    public static final String ENTRY = "ENTRY";
+
+    private String type;
+    private Long id;
+    private Long initiativeId;
+    private String site;
+    private String responsible;
+    private String label;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    // Constructors
+    public TimelineInterval() {}
+
+    public TimelineInterval(String type, Long id, Long initiativeId, String responsible, String label,
+                            LocalDate startDate, LocalDate endDate) {
+        this.type = type;
+        this.id = id;
+        this.initiativeId = initiativeId;
+        this.responsible = responsible;
+        this.label = label;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    // Getters and Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getInitiativeId() { return initiativeId; }
+    public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+    public String getSite() { return site; }
+    public void setSite(String site) { this.site = site; }
+
+    public String getResponsible() { return responsible; }
+    public void setResponsible(String responsible) { this.responsible = responsible; }
+
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+}
@@ -0,0 +1,40 @@
+package com.company.opexhub.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class TimelineStatusRefresh {
+    private LocalDateTime lastRunAt;
+    private LocalDate asOf;
+    private String zone;
+    private int entriesUpdated;
+    private int tasksUpdated;
+
+    // Constructors
+    public TimelineStatusRefresh() {}
+
+    public TimelineStatusRefresh(LocalDateTime lastRunAt, LocalDate asOf, String zone,
+                                 int entriesUpdated, int tasksUpdated) {
+        this.lastRunAt = lastRunAt;
+        this.asOf = asOf;
+        this.zone = zone;
+        this.entriesUpdated = entriesUpdated;
+        this.tasksUpdated = tasksUpdated;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getLastRunAt() { return lastRunAt; }
+    public void setLastRunAt(LocalDateTime lastRunAt) { this.lastRunAt = lastRunAt; }
+
+    public LocalDate getAsOf() { return asOf; }
+    public void setAsOf(LocalDate asOf) { this.asOf = asOf; }
+
+    public String getZone() { return zone; }
+    public void setZone(String zone) { this.zone = zone; }
+
+    public int getEntriesUpdated() { return entriesUpdated; }
+    public void setEntriesUpdated(int entriesUpdated) { this.entriesUpdated = entriesUpdated; }
+
+    public int getTasksUpdated() { return tasksUpdated; }
+    public void setTasksUpdated(int tasksUpdated) { this.tasksUpdated = tasksUpdated; }
+}
@@ -0,0 +1,54 @@
+package com.company.opexhub.dto;
+
+import com.company.opexhub.entity.User;
+
+public class UserSummary {
+    private Long id;
+    private String fullName;
+    private String email;
+    private String site;
+    private String discipline;
+    private String role;
+    private String roleName;
+
+    // Constructors
+    public UserSummary() {}
+
+    public UserSummary(Long id, String fullName, String email, String site, String discipline,
+                       String role, String roleName) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+        this.site = site;
+        this.discipline = discipline;
+        this.role = role;
+        this.roleName = roleName;
+    }
+
+    public UserSummary(User user) {
+        this(user.getId(), user.getFullName(), user.getEmail(), user.getSite(), user.getDiscipline(),
+                user.getRole(), user.getRoleName());
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFullName() { return fullName; }
+    public void setFullName(String fullName) { this.fullName = fullName; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getSite() { return site; }
+    public void setSite(String site) { this.site = site; }
+
+    public String getDiscipline() { return discipline; }
+    public void setDiscipline(String discipline) { this.discipline = discipline; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public String getRoleName() { return roleName; }
+    public void setRoleName(String roleName) { this.roleName = roleName; }
+}
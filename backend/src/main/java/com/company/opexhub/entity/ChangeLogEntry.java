@@ -0,0 +1,63 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "change_log")
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_log_seq")
+    // No id blocks here: the id is the change feed cursor and has to follow write order
+    @SequenceGenerator(name = "change_log_seq", sequenceName = "change_log_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 30)
+    private String entityType; // initiative, workflowTransaction, comment, monitoringEntry
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "initiative_id")
+    private Long initiativeId;
+
+    @Column(nullable = false, length = 10)
+    private String operation; // UPSERT or DELETE
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public ChangeLogEntry() {}
+
+    public ChangeLogEntry(String entityType, Long entityId, Long initiativeId, String operation) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.initiativeId = initiativeId;
+        this.operation = operation;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        changedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+
+    public Long getInitiativeId() { return initiativeId; }
+    public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+    public String getOperation() { return operation; }
+    public void setOperation(String operation) { this.operation = operation; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+}
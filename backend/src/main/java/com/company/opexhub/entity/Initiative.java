@@ -13,11 +13,13 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
@@ -26,10 +28,11 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
-@Table(name = "initiatives")
+@Table(name = "initiatives", indexes = @Index(name = "idx_initiatives_updated_at", columnList = "updated_at"))
 public class Initiative {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "initiative_seq")
+    @SequenceGenerator(name = "initiative_seq", sequenceName = "initiatives_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -50,9 +53,17 @@ public class Initiative {
     @Column(name = "expected_savings", precision = 15, scale = 2)
     private BigDecimal expectedSavings;
 
+    // Sum of F&A-approved achieved values, maintained by SavingsRollupService
     @Column(name = "actual_savings", precision = 15, scale = 2)
     private BigDecimal actualSavings;
 
+    @Column(name = "annualized_savings", precision = 15, scale = 2)
+    private BigDecimal annualizedSavings;
+
+    // Distinct months with F&A-approved savings, the divisor for annualizedSavings
+    @Column(name = "savings_months")
+    private Integer savingsMonths;
+
     @NotBlank
     @Size(max = 10)
     private String site;
@@ -199,6 +210,12 @@ public class Initiative {
     public BigDecimal getActualSavings() { return actualSavings; }
     public void setActualSavings(BigDecimal actualSavings) { this.actualSavings = actualSavings; }
 
+    public BigDecimal getAnnualizedSavings() { return annualizedSavings; }
+    public void setAnnualizedSavings(BigDecimal annualizedSavings) { this.annualizedSavings = annualizedSavings; }
+
+    public Integer getSavingsMonths() { return savingsMonths; }
+    public void setSavingsMonths(Integer savingsMonths) { this.savingsMonths = savingsMonths; }
+
     public String getSite() { return site; }
     public void setSite(String site) { this.site = site; }
 
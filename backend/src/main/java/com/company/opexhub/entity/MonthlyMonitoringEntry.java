@@ -10,20 +10,24 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
-@Table(name = "monthly_monitoring_entries")
+@Table(name = "monthly_monitoring_entries",
+       indexes = @Index(name = "idx_monthly_monitoring_updated_at", columnList = "updated_at"))
 public class MonthlyMonitoringEntry {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "monthly_monitoring_entry_seq")
+    @SequenceGenerator(name = "monthly_monitoring_entry_seq", sequenceName = "monthly_monitoring_entries_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -70,7 +74,7 @@ public class MonthlyMonitoringEntry {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
     // Constructors
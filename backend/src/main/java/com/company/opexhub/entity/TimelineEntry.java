@@ -6,11 +6,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "timeline_entries")
+@Table(name = "timeline_entries",
+       indexes = @Index(name = "idx_timeline_entries_initiative_updated", columnList = "initiative_id, updated_at"))
 public class TimelineEntry {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeline_entry_seq")
+    @SequenceGenerator(name = "timeline_entry_seq", sequenceName = "timeline_entries_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -52,7 +54,7 @@ public class TimelineEntry {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
     public enum TimelineStatus {
@@ -75,6 +77,7 @@ public class TimelineEntry {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        updateStatusFromDates();
     }
     
     @PreUpdate
@@ -83,6 +86,7 @@ public class TimelineEntry {
         updateStatusFromDates();
     }
     
+    // Same rule as the set-based refresh in TimelineStatusRefreshService, which covers entries nobody edits
     private void updateStatusFromDates() {
         LocalDate today = LocalDate.now();
         
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Table(name = "timeline_tasks")
 public class TimelineTask {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeline_task_seq")
+    @SequenceGenerator(name = "timeline_task_seq", sequenceName = "timeline_tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -49,6 +50,10 @@ public class TimelineTask {
     @Column(columnDefinition = "TEXT")
     private String comments;
 
+    // End date passed without completion; refreshed daily by TimelineStatusRefreshService
+    @Column(name = "overdue", nullable = false)
+    private Boolean overdue = false;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -81,11 +86,17 @@ public class TimelineTask {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        updateOverdueFromDates();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        updateOverdueFromDates();
+    }
+
+    private void updateOverdueFromDates() {
+        overdue = endDate != null && endDate.isBefore(LocalDate.now()) && !"Completed".equals(status);
     }
 
     // Getters and Setters
@@ -107,6 +118,9 @@ public class TimelineTask {
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
 
+    public Boolean getOverdue() { return overdue; }
+    public void setOverdue(Boolean overdue) { this.overdue = overdue; }
+
     public Integer getProgressPercentage() { return progressPercentage; }
     public void setProgressPercentage(Integer progressPercentage) { this.progressPercentage = progressPercentage; }
 
@@ -0,0 +1,65 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * Finish-to-start link: the successor task cannot start before the predecessor has finished.
+ */
+@Entity
+@Table(name = "timeline_task_dependencies",
+       uniqueConstraints = @UniqueConstraint(name = "uk_timeline_task_dependencies_link",
+                                             columnNames = {"predecessor_id", "successor_id"}),
+       indexes = @Index(name = "idx_timeline_task_dependencies_initiative", columnList = "initiative_id"))
+public class TimelineTaskDependency {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeline_task_dependency_seq")
+    @SequenceGenerator(name = "timeline_task_dependency_seq", sequenceName = "timeline_task_dependencies_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull
+    @Column(name = "initiative_id")
+    private Long initiativeId;
+
+    @NotNull
+    @Column(name = "predecessor_id")
+    private Long predecessorId;
+
+    @NotNull
+    @Column(name = "successor_id")
+    private Long successorId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public TimelineTaskDependency() {}
+
+    public TimelineTaskDependency(Long initiativeId, Long predecessorId, Long successorId) {
+        this.initiativeId = initiativeId;
+        this.predecessorId = predecessorId;
+        this.successorId = successorId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getInitiativeId() { return initiativeId; }
+    public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+    public Long getPredecessorId() { return predecessorId; }
+    public void setPredecessorId(Long predecessorId) { this.predecessorId = predecessorId; }
+
+    public Long getSuccessorId() { return successorId; }
+    public void setSuccessorId(Long successorId) { this.successorId = successorId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
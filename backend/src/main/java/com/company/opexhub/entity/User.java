@@ -4,12 +4,16 @@ import javax.persistence.*;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users", 
        uniqueConstraints = {
            @UniqueConstraint(columnNames = "email")
@@ -47,6 +51,10 @@ public class User {
     @Size(max = 100)
     private String roleName;
 
+    // Bumped when a claim carried in issued tokens changes, so those tokens stop being accepted
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -101,17 +109,30 @@ public class User {
     public void setPassword(String password) { this.password = password; }
 
     public String getSite() { return site; }
-    public void setSite(String site) { this.site = site; }
+    public void setSite(String site) {
+        if (this.site != null && !this.site.equals(site)) {
+            tokenVersion++;
+        }
+        this.site = site;
+    }
 
     public String getDiscipline() { return discipline; }
     public void setDiscipline(String discipline) { this.discipline = discipline; }
 
     public String getRole() { return role; }
-    public void setRole(String role) { this.role = role; }
+    public void setRole(String role) {
+        if (this.role != null && !this.role.equals(role)) {
+            tokenVersion++;
+        }
+        this.role = role;
+    }
 
     public String getRoleName() { return roleName; }
     public void setRoleName(String roleName) { this.roleName = roleName; }
 
+    public Integer getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(Integer tokenVersion) { this.tokenVersion = tokenVersion; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
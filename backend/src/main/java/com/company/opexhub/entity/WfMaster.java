@@ -1,12 +1,17 @@
 package com.company.opexhub.entity;
 
 import javax.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "wfMaster")
 @Table(name = "wf_master")
 public class WfMaster {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wf_master_seq")
+    @SequenceGenerator(name = "wf_master_seq", sequenceName = "wf_master_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "stage_number", nullable = false)
@@ -3,8 +3,12 @@ package com.company.opexhub.entity;
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workflowStages")
 @Table(name = "workflow_stages")
 public class WorkflowStage {
     @Id
@@ -5,10 +5,12 @@ import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "workflow_transactions")
+@Table(name = "workflow_transactions",
+       indexes = @Index(name = "idx_workflow_transactions_initiative_updated", columnList = "initiative_id, updated_at"))
 public class WorkflowTransaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workflow_transaction_seq")
+    @SequenceGenerator(name = "workflow_transaction_seq", sequenceName = "workflow_transactions_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -0,0 +1,18 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChangeLogEntryRepository extends JpaRepository<ChangeLogEntry, Long> {
+    
+    List<ChangeLogEntry> findByIdGreaterThanAndIdLessThanEqualOrderById(Long cursor, Long committedThrough, Pageable pageable);
+    
+    @Query("SELECT MAX(c.id) FROM ChangeLogEntry c")
+    Long findMaxId();
+}
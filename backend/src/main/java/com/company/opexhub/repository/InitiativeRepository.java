@@ -1,15 +1,22 @@
 package com.company.opexhub.repository;
 
+import com.company.opexhub.dto.InitiativeSummary;
 import com.company.opexhub.entity.Initiative;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InitiativeRepository extends JpaRepository<Initiative, Long> {
@@ -31,6 +38,21 @@ public interface InitiativeRepository extends JpaRepository<Initiative, Long> {
                                                           @Param("title") String title, 
                                                           Pageable pageable);
     
+    @Query(value = "SELECT new com.company.opexhub.dto.InitiativeSummary(i.id, i.title, i.status, i.priority, " +
+                   "i.expectedSavings, i.actualSavings, i.site, i.discipline, i.initiativeNumber, i.startDate, " +
+                   "i.endDate, i.progressPercentage, i.currentStage, i.requiresMoc, i.requiresCapex, i.createdAt, " +
+                   "i.updatedAt, u.fullName, u.email, i.initiatorName) " +
+                   "FROM Initiative i LEFT JOIN i.createdBy u " +
+                   "WHERE (:status IS NULL OR i.status = :status) AND (:site IS NULL OR i.site = :site) " +
+                   "AND (:title IS NULL OR i.title LIKE CONCAT('%', :title, '%'))",
+           countQuery = "SELECT COUNT(i) FROM Initiative i " +
+                        "WHERE (:status IS NULL OR i.status = :status) AND (:site IS NULL OR i.site = :site) " +
+                        "AND (:title IS NULL OR i.title LIKE CONCAT('%', :title, '%'))")
+    Page<InitiativeSummary> findSummaries(@Param("status") String status,
+                                          @Param("site") String site,
+                                          @Param("title") String title,
+                                          Pageable pageable);
+    
     List<Initiative> findByPriority(String priority);
     
     @Query("SELECT COUNT(i) FROM Initiative i WHERE i.status = :status")
@@ -48,4 +70,49 @@ public interface InitiativeRepository extends JpaRepository<Initiative, Long> {
     
     @Query("SELECT COUNT(i) FROM Initiative i WHERE i.site = :site AND YEAR(i.createdAt) = :year")
     Long countBySiteAndYear(@Param("site") String site, @Param("year") Integer year);
-}
\ No newline at end of file
+    
+    @Query("SELECT COUNT(i), MAX(i.updatedAt) FROM Initiative i")
+    List<Object[]> findVersionStamp();
+    
+    @Query("SELECT i.updatedAt FROM Initiative i WHERE i.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    @Query("SELECT i.discipline, COUNT(i) FROM Initiative i WHERE i.site = :site AND YEAR(i.createdAt) = :year GROUP BY i.discipline")
+    List<Object[]> countByDisciplineForSiteAndYear(@Param("site") String site, @Param("year") Integer year);
+    
+    @Query("SELECT new com.company.opexhub.dto.InitiativeSummary(i.id, i.title, i.status, i.priority, " +
+           "i.expectedSavings, i.actualSavings, i.site, i.discipline, i.initiativeNumber, i.startDate, " +
+           "i.endDate, i.progressPercentage, i.currentStage, i.requiresMoc, i.requiresCapex, i.createdAt, " +
+           "i.updatedAt, u.fullName, u.email, i.initiatorName) " +
+           "FROM Initiative i LEFT JOIN i.createdBy u WHERE i.id IN :ids")
+    List<InitiativeSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+    
+    @Query("SELECT i.status, i.site, i.discipline, i.currentStage, COUNT(i), SUM(i.expectedSavings), SUM(i.actualSavings) " +
+           "FROM Initiative i GROUP BY i.status, i.site, i.discipline, i.currentStage")
+    List<Object[]> aggregateByStatusSiteDisciplineAndStage();
+
+    @Query("SELECT i.status, i.site, i.discipline, i.currentStage, COUNT(i), SUM(i.expectedSavings), SUM(i.actualSavings) " +
+           "FROM Initiative i WHERE i.id IN :ids GROUP BY i.status, i.site, i.discipline, i.currentStage")
+    List<Object[]> aggregateByStatusSiteDisciplineAndStageForIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.id FROM Initiative i WHERE i.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Initiative i WHERE i.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Initiative i WHERE i.id = :id")
+    Optional<Initiative> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT i.id, i.actualSavings, i.savingsMonths FROM Initiative i " +
+           "WHERE i.actualSavings IS NOT NULL OR i.savingsMonths IS NOT NULL")
+    List<Object[]> findSavingsRollups();
+
+    @Query("SELECT i.id, i.site FROM Initiative i")
+    List<Object[]> findSites();
+
+    @Query("SELECT i.endDate FROM Initiative i WHERE i.id = :id")
+    Optional<LocalDate> findEndDateById(@Param("id") Long id);
+}
@@ -2,11 +2,13 @@ package com.company.opexhub.repository;
 
 import com.company.opexhub.entity.MonthlyMonitoringEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -42,4 +44,35 @@ public interface MonthlyMonitoringEntryRepository extends JpaRepository<MonthlyM
     List<MonthlyMonitoringEntry> findByIsFinalizedTrue();
     
     List<MonthlyMonitoringEntry> findByFaApprovalTrue();
-}
\ No newline at end of file
+
+    @Query("SELECT m FROM MonthlyMonitoringEntry m WHERE m.initiative.id IN :initiativeIds AND m.monitoringMonth = :month ORDER BY m.id")
+    List<MonthlyMonitoringEntry> findByInitiativeIdInAndMonth(@Param("initiativeIds") Collection<Long> initiativeIds,
+                                                              @Param("month") YearMonth month);
+
+    @Query("SELECT m.id, m.initiative.id FROM MonthlyMonitoringEntry m WHERE m.initiative.id IN :initiativeIds")
+    List<Object[]> findIdsByInitiativeIdIn(@Param("initiativeIds") Collection<Long> initiativeIds);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyMonitoringEntry m WHERE m.initiative.id IN :initiativeIds")
+    int deleteByInitiativeIdIn(@Param("initiativeIds") Collection<Long> initiativeIds);
+
+    @Query("SELECT COUNT(m), MAX(m.updatedAt) FROM MonthlyMonitoringEntry m")
+    List<Object[]> findVersionStamp();
+
+    @Query("SELECT i.id, i.site, i.discipline, m.monitoringMonth, SUM(m.targetValue), SUM(m.achievedValue) " +
+           "FROM MonthlyMonitoringEntry m JOIN m.initiative i GROUP BY i.id, i.site, i.discipline, m.monitoringMonth")
+    List<Object[]> sumByInitiativeAndMonth();
+
+    @Query("SELECT COUNT(m) FROM MonthlyMonitoringEntry m WHERE m.initiative.id = :initiativeId " +
+           "AND m.monitoringMonth = :month AND m.faApproval = true AND m.id <> :excludeId")
+    long countOtherApprovedInMonth(@Param("initiativeId") Long initiativeId, @Param("month") YearMonth month,
+                                   @Param("excludeId") Long excludeId);
+
+    @Query("SELECT m.initiative.id, SUM(m.achievedValue), COUNT(DISTINCT m.monitoringMonth) " +
+           "FROM MonthlyMonitoringEntry m WHERE m.faApproval = true GROUP BY m.initiative.id")
+    List<Object[]> sumApprovedByInitiative();
+
+    @Query("SELECT SUM(m.achievedValue), COUNT(DISTINCT m.monitoringMonth) " +
+           "FROM MonthlyMonitoringEntry m WHERE m.faApproval = true AND m.initiative.id = :initiativeId")
+    List<Object[]> sumApprovedForInitiative(@Param("initiativeId") Long initiativeId);
+}
@@ -2,11 +2,18 @@ package com.company.opexhub.repository;
 
 import com.company.opexhub.entity.TimelineEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
@@ -24,4 +31,62 @@ public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Lo
     @Query("SELECT t FROM TimelineEntry t WHERE t.initiative.id = :initiativeId AND " +
            "(t.siteLeadApproval = false OR t.initiativeLeadApproval = false)")
     List<TimelineEntry> findPendingApprovalsForInitiative(@Param("initiativeId") Long initiativeId);
-}
\ No newline at end of file
+    
+    @Query("SELECT COUNT(t), MAX(t.updatedAt) FROM TimelineEntry t WHERE t.initiative.id = :initiativeId")
+    List<Object[]> findVersionStampByInitiativeId(@Param("initiativeId") Long initiativeId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.initiative.id IN :initiativeIds")
+    int deleteByInitiativeIdIn(@Param("initiativeIds") Collection<Long> initiativeIds);
+
+    // Date-driven status, set-based; each statement only touches rows whose status actually changes
+
+    @Modifying
+    @Query("UPDATE TimelineEntry t SET t.status = :status, t.updatedAt = :now " +
+           "WHERE t.actualEndDate IS NOT NULL AND t.status <> :status")
+    int markCompleted(@Param("status") TimelineEntry.TimelineStatus status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TimelineEntry t SET t.status = :status, t.updatedAt = :now " +
+           "WHERE t.actualEndDate IS NULL AND (t.actualStartDate IS NOT NULL OR t.plannedStartDate <= :today) " +
+           "AND t.status <> :status")
+    int markInProgress(@Param("status") TimelineEntry.TimelineStatus status, @Param("today") LocalDate today,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TimelineEntry t SET t.status = :status, t.updatedAt = :now " +
+           "WHERE t.actualEndDate IS NULL AND t.actualStartDate IS NULL AND t.plannedStartDate > :today " +
+           "AND t.status <> :status")
+    int markPending(@Param("status") TimelineEntry.TimelineStatus status, @Param("today") LocalDate today,
+                    @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.id, t.initiative.id, t.responsiblePerson, t.stageName, t.plannedStartDate, t.plannedEndDate " +
+           "FROM TimelineEntry t")
+    List<Object[]> findIntervals();
+
+    /**
+     * Timeline entries and tasks of a site's initiatives that overlap [from, to], as one result ordered by
+     * initiative and start date: initiative id, number, title, status, discipline, then item type, id,
+     * name, start, end, actual start, actual end, status, responsible and progress.
+     */
+    @Query(value = "SELECT i.id, i.initiative_number, i.title, i.status, i.discipline, " +
+           "'ENTRY' AS item_type, e.id AS item_id, e.stage_name, e.planned_start_date AS item_start, " +
+           "e.planned_end_date, e.actual_start_date, e.actual_end_date, e.status AS item_status, " +
+           "e.responsible_person, CAST(NULL AS INTEGER) AS progress " +
+           "FROM initiatives i JOIN timeline_entries e ON e.initiative_id = i.id " +
+           "WHERE i.site = :site AND e.planned_start_date <= :to AND e.planned_end_date >= :from " +
+           "AND (:status IS NULL OR i.status = :status) AND (:discipline IS NULL OR i.discipline = :discipline) " +
+           "UNION ALL " +
+           "SELECT i.id, i.initiative_number, i.title, i.status, i.discipline, " +
+           "'TASK', t.id, t.title, COALESCE(t.start_date, t.end_date), COALESCE(t.end_date, t.start_date), " +
+           "CAST(NULL AS DATE), CAST(NULL AS DATE), t.status, t.responsible, t.progress_percentage " +
+           "FROM initiatives i JOIN timeline_tasks t ON t.initiative_id = i.id " +
+           "WHERE i.site = :site AND COALESCE(t.start_date, t.end_date) <= :to " +
+           "AND COALESCE(t.end_date, t.start_date) >= :from " +
+           "AND (:status IS NULL OR i.status = :status) AND (:discipline IS NULL OR i.discipline = :discipline) " +
+           "ORDER BY 1, 9, 6, 7", nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    Stream<Object[]> streamGanttRows(@Param("site") String site, @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to, @Param("status") String status,
+                                     @Param("discipline") String discipline);
+}
@@ -0,0 +1,28 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.TimelineTaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TimelineTaskDependencyRepository extends JpaRepository<TimelineTaskDependency, Long> {
+
+    List<TimelineTaskDependency> findByInitiativeId(Long initiativeId);
+
+    Optional<TimelineTaskDependency> findByPredecessorIdAndSuccessorId(Long predecessorId, Long successorId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineTaskDependency d WHERE d.predecessorId = :taskId OR d.successorId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineTaskDependency d WHERE d.initiativeId IN :initiativeIds")
+    int deleteByInitiativeIdIn(@Param("initiativeIds") Collection<Long> initiativeIds);
+}
@@ -2,12 +2,16 @@ package com.company.opexhub.repository;
 
 import com.company.opexhub.entity.TimelineTask;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TimelineTaskRepository extends JpaRepository<TimelineTask, Long> {
@@ -26,4 +30,29 @@ public interface TimelineTaskRepository extends JpaRepository<TimelineTask, Long
     
     @Query("SELECT t FROM TimelineTask t WHERE t.startDate <= :date AND t.endDate >= :date")
     List<TimelineTask> findActiveTasksOnDate(@Param("date") LocalDate date);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("DELETE FROM TimelineTask t WHERE t.initiative.id IN :initiativeIds")
+    int deleteByInitiativeIdIn(@Param("initiativeIds") Collection<Long> initiativeIds);
+
+    @Modifying
+    @Query("UPDATE TimelineTask t SET t.overdue = true, t.updatedAt = :now " +
+           "WHERE t.overdue = false AND t.endDate < :today AND t.status <> 'Completed'")
+    int markOverdue(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TimelineTask t SET t.overdue = false, t.updatedAt = :now " +
+           "WHERE t.overdue = true AND (t.endDate IS NULL OR t.endDate >= :today OR t.status = 'Completed')")
+    int clearOverdue(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.id, t.initiative.id, t.responsible, t.title, t.startDate, t.endDate FROM TimelineTask t " +
+           "WHERE t.startDate IS NOT NULL OR t.endDate IS NOT NULL")
+    List<Object[]> findIntervals();
+
+    @Query("SELECT t.id, t.title, t.startDate, t.endDate, t.progressPercentage, t.status FROM TimelineTask t " +
+           "WHERE t.initiative.id = :initiativeId ORDER BY t.startDate, t.id")
+    List<Object[]> findScheduleRows(@Param("initiativeId") Long initiativeId);
+
+    @Query("SELECT t.initiative.id FROM TimelineTask t WHERE t.id = :id")
+    Optional<Long> findInitiativeIdById(@Param("id") Long id);
+}
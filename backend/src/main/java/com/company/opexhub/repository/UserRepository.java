@@ -3,30 +3,53 @@ package com.company.opexhub.repository;
 import com.company.opexhub.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "users-queries")})
     Optional<User> findByEmail(String email);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "users-queries")})
     List<User> findByRoleAndSite(String role, String site);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "users-queries")})
     List<User> findByRole(String role);
     
     Boolean existsByEmail(String email);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "users-queries")})
     List<User> findBySite(String site);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "users-queries")})
     List<User> findBySiteAndRole(String site, String role);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "users-queries")})
     @Query("SELECT u FROM User u WHERE u.site = :site AND u.discipline = :discipline")
     List<User> findBySiteAndDiscipline(@Param("site") String site, @Param("discipline") String discipline);
     
     @Query("SELECT u FROM User u WHERE u.fullName LIKE %:name%")
     List<User> findByFullNameContaining(@Param("name") String name);
-}
\ No newline at end of file
+
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+
+    @Query("SELECT u.id, u.fullName, u.email, u.site, u.discipline, u.role, u.roleName FROM User u")
+    List<Object[]> findSummaries();
+
+    @Query("SELECT u.id, u.tokenVersion FROM User u WHERE u.tokenVersion > 0")
+    List<Object[]> findTokenVersions();
+}
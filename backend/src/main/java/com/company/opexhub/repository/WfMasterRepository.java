@@ -3,21 +3,31 @@ package com.company.opexhub.repository;
 import com.company.opexhub.entity.WfMaster;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WfMasterRepository extends JpaRepository<WfMaster, Long> {
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "wfMaster-queries")})
     List<WfMaster> findBySiteAndIsActiveOrderByStageNumber(String site, Boolean isActive);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "wfMaster-queries")})
     Optional<WfMaster> findBySiteAndStageNumberAndIsActive(String site, Integer stageNumber, Boolean isActive);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "wfMaster-queries")})
     List<WfMaster> findBySiteAndRoleCodeAndIsActive(String site, String roleCode, Boolean isActive);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "wfMaster-queries")})
     @Query("SELECT wm FROM WfMaster wm WHERE wm.site = :site AND wm.stageNumber = :stageNumber AND wm.isActive = true")
     Optional<WfMaster> findWorkflowUserForStage(@Param("site") String site, @Param("stageNumber") Integer stageNumber);
 }
\ No newline at end of file
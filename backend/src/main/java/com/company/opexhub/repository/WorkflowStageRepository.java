@@ -3,23 +3,35 @@ package com.company.opexhub.repository;
 import com.company.opexhub.entity.WorkflowStage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WorkflowStageRepository extends JpaRepository<WorkflowStage, Long> {
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "workflowStages-queries")})
     List<WorkflowStage> findBySiteOrderByStageNumber(String site);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "workflowStages-queries")})
     List<WorkflowStage> findByRequiredRole(String requiredRole);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "workflowStages-queries")})
     List<WorkflowStage> findBySiteAndRequiredRole(String site, String requiredRole);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "workflowStages-queries")})
     Optional<WorkflowStage> findBySiteAndStageNumber(String site, Integer stageNumber);
     
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = "workflowStages-queries")})
     @Query("SELECT w FROM WorkflowStage w WHERE w.site = :site ORDER BY w.stageNumber")
     List<WorkflowStage> findAllStagesBySite(@Param("site") String site);
 }
\ No newline at end of file
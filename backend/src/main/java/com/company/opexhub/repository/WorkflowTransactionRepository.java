@@ -2,10 +2,12 @@ package com.company.opexhub.repository;
 
 import com.company.opexhub.entity.WorkflowTransaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,4 +49,18 @@ public interface WorkflowTransactionRepository extends JpaRepository<WorkflowTra
     List<WorkflowTransaction> findByStageNumberAndApproveStatusAndSite(@Param("stageNumber") Integer stageNumber, 
                                                                       @Param("approveStatus") String approveStatus, 
                                                                       @Param("site") String site);
-}
\ No newline at end of file
+
+    @Query("SELECT COUNT(wt), MAX(wt.updatedAt) FROM WorkflowTransaction wt WHERE wt.initiativeId = :initiativeId")
+    List<Object[]> findVersionStampByInitiativeId(@Param("initiativeId") Long initiativeId);
+
+    @Query("SELECT wt.id, wt.initiativeId FROM WorkflowTransaction wt WHERE wt.initiativeId IN :initiativeIds")
+    List<Object[]> findIdsByInitiativeIdIn(@Param("initiativeIds") Collection<Long> initiativeIds);
+
+    List<WorkflowTransaction> findByInitiativeIdInAndStageNumber(Collection<Long> initiativeIds, Integer stageNumber);
+
+    List<WorkflowTransaction> findByInitiativeIdInAndApproveStatus(Collection<Long> initiativeIds, String approveStatus);
+
+    @Modifying
+    @Query("DELETE FROM WorkflowTransaction wt WHERE wt.initiativeId IN :initiativeIds")
+    int deleteByInitiativeIdIn(@Param("initiativeIds") Collection<Long> initiativeIds);
+}
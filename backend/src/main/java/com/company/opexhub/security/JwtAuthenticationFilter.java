@@ -1,12 +1,17 @@
 package com.company.opexhub.security;
 
+import com.company.opexhub.controller.NotificationController;
 import com.company.opexhub.service.CustomUserDetailsService;
+import com.company.opexhub.service.StreamTicketService;
+import com.company.opexhub.service.TokenRevocationService;
+import com.company.opexhub.service.TokenVersionService;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,6 +30,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private StreamTicketService streamTicketService;
+
+    // Build principals from token claims alone, without touching the users table
+    @Value("${jwt.claims-principal:false}")
+    private boolean claimsPrincipal;
+
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     @Override
@@ -32,10 +50,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromJWT(jwt);
-
-                UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : null;
+            UserPrincipal userDetails = claims != null ? loadPrincipal(claims, request) : loadStreamPrincipal(request);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -48,6 +65,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserPrincipal loadPrincipal(Claims claims, HttpServletRequest request) {
+        Long userId = Long.parseLong(claims.getSubject());
+        if (tokenRevocationService.isRevoked(claims)) {
+            logger.info("Rejected revoked token {} of user {}", claims.getId(), userId);
+            return null;
+        }
+        if (!claimsPrincipal) {
+            return (UserPrincipal) customUserDetailsService.loadUserById(userId);
+        }
+
+        UserPrincipal principal = tokenProvider.getPrincipalFromClaims(claims);
+        if (principal == null) {
+            // Issued before profile claims were added; served from the principal cache until it expires
+            principal = (UserPrincipal) customUserDetailsService.loadUserById(userId);
+        } else if (!tokenVersionService.isCurrent(userId, principal.getTokenVersion())) {
+            logger.info("Rejected token of user {} issued before a role or site change", userId);
+            return null;
+        }
+        request.setAttribute("userEmail", principal.getUsername());
+        request.setAttribute("userRole", principal.getRole());
+        return principal;
+    }
+
+    // The event stream is opened with a single-use ticket, since EventSource cannot set headers;
+    // no path takes the session JWT from the query string
+    private UserPrincipal loadStreamPrincipal(HttpServletRequest request) {
+        if (!NotificationController.STREAM_PATH.equals(request.getRequestURI())) {
+            return null;
+        }
+        Long userId = streamTicketService.redeem(request.getParameter(NotificationController.TICKET_PARAM));
+        return userId != null ? (UserPrincipal) customUserDetailsService.loadUserById(userId) : null;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
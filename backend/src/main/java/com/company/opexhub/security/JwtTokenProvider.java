@@ -1,51 +1,118 @@
 package com.company.opexhub.security;
 
+import com.company.opexhub.service.TokenVersionService;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    // Profile claims, so a principal can be rebuilt from the token alone
+    private static final String CLAIM_EMAIL = "email";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_SITE = "site";
+    private static final String CLAIM_DISCIPLINE = "discipline";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_ROLE_NAME = "roleName";
+    private static final String CLAIM_VERSION = "ver";
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private int jwtExpirationInMs;
 
+    private Key signingKey;
+
+    @PostConstruct
+    public void init() {
+        // jjwt reads a String key as Base64 and decodes it on every call; decode it once instead
+        signingKey = new SecretKeySpec(TextCodec.BASE64.decode(jwtSecret), SignatureAlgorithm.HS512.getJcaName());
+    }
+
     public String generateToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
 
         return Jwts.builder()
+                // Token id, so a single token can be revoked
+                .setId(UUID.randomUUID().toString())
                 .setSubject(Long.toString(userPrincipal.getId()))
+                .claim(CLAIM_EMAIL, userPrincipal.getUsername())
+                .claim(CLAIM_NAME, userPrincipal.getFullName())
+                .claim(CLAIM_SITE, userPrincipal.getSite())
+                .claim(CLAIM_DISCIPLINE, userPrincipal.getDiscipline())
+                .claim(CLAIM_ROLE, userPrincipal.getRole())
+                .claim(CLAIM_ROLE_NAME, userPrincipal.getRoleName())
+                // The registry may be ahead of a user row still cached from before a change on another node
+                .claim(CLAIM_VERSION, Math.max(userPrincipal.getTokenVersion(),
+                        tokenVersionService.currentVersion(userPrincipal.getId())))
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, jwtSecret)
+                .signWith(SignatureAlgorithm.HS512, signingKey)
                 .compact();
     }
 
     public Long getUserIdFromJWT(String token) {
         Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
+                .setSigningKey(signingKey)
                 .parseClaimsJws(token)
                 .getBody();
 
         return Long.parseLong(claims.getSubject());
     }
 
+    /**
+     * The principal described by verified claims, or null for a token issued before profile claims
+     * were added. It carries no password.
+     */
+    public UserPrincipal getPrincipalFromClaims(Claims claims) {
+        Integer version = claims.get(CLAIM_VERSION, Integer.class);
+        if (version == null) {
+            return null;
+        }
+        return new UserPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get(CLAIM_NAME, String.class),
+                claims.get(CLAIM_EMAIL, String.class),
+                null,
+                claims.get(CLAIM_SITE, String.class),
+                claims.get(CLAIM_DISCIPLINE, String.class),
+                claims.get(CLAIM_ROLE, String.class),
+                claims.get(CLAIM_ROLE_NAME, String.class),
+                version
+        );
+    }
+
     public boolean validateToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+
+    /**
+     * Verify the token and return its claims, or null if it is invalid or expired; one parse
+     * serves both the check and the claims.
+     */
+    public Claims parseClaims(String authToken) {
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(authToken);
-            return true;
+            return Jwts.parser().setSigningKey(signingKey).parseClaimsJws(authToken).getBody();
         } catch (SignatureException ex) {
             logger.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -57,6 +124,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty.");
         }
-        return false;
+        return null;
     }
 }
\ No newline at end of file
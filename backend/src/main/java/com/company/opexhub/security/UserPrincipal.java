@@ -7,7 +7,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
 import java.util.Objects;
 
 public class UserPrincipal implements UserDetails {
@@ -19,6 +18,7 @@ public class UserPrincipal implements UserDetails {
     private String discipline;
     private String role;
     private String roleName;
+    private int tokenVersion;
     private Collection<? extends GrantedAuthority> authorities;
 
     public UserPrincipal(Long id, String fullName, String email, String password, 
@@ -35,9 +35,14 @@ public class UserPrincipal implements UserDetails {
         this.authorities = authorities;
     }
 
-    public static UserPrincipal create(User user) {
-        List<GrantedAuthority> authorities = Arrays.asList(new SimpleGrantedAuthority("ROLE_" + user.getRole()));
+    public UserPrincipal(Long id, String fullName, String email, String password,
+                        String site, String discipline, String role, String roleName, int tokenVersion) {
+        this(id, fullName, email, password, site, discipline, role, roleName,
+                Arrays.asList(new SimpleGrantedAuthority("ROLE_" + role)));
+        this.tokenVersion = tokenVersion;
+    }
 
+    public static UserPrincipal create(User user) {
         return new UserPrincipal(
                 user.getId(),
                 user.getFullName(),
@@ -47,7 +52,7 @@ public class UserPrincipal implements UserDetails {
                 user.getDiscipline(),
                 user.getRole(),
                 user.getRoleName(),
-                authorities
+                user.getTokenVersion() != null ? user.getTokenVersion() : 0
         );
     }
 
@@ -57,6 +62,7 @@ public class UserPrincipal implements UserDetails {
     public String getDiscipline() { return discipline; }
     public String getRole() { return role; }
     public String getRoleName() { return roleName; }
+    public int getTokenVersion() { return tokenVersion; }
 
     @Override
     public String getUsername() { return email; }
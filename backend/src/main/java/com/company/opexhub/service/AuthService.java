@@ -7,14 +7,34 @@ import com.company.opexhub.entity.User;
 import com.company.opexhub.repository.UserRepository;
 import com.company.opexhub.security.JwtTokenProvider;
 import com.company.opexhub.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sign-in and sign-up. Both spend most of their time in BCrypt, so they run on a small dedicated
+ * pool rather than on request threads; when its queue is full new attempts are rejected at once
+ * (the controller answers 429) instead of piling up behind a login storm.
+ */
 @Service
 public class AuthService {
 
@@ -30,6 +50,63 @@ public class AuthService {
     @Autowired
     JwtTokenProvider tokenProvider;
 
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    // Defaults to one thread per core, as BCrypt is CPU bound
+    @Value("${auth.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${auth.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    private ExecutorService hashingExecutor;
+    private Timer signInTimer;
+    private Timer signUpTimer;
+
+    @PostConstruct
+    public void init() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashingQueueCapacity), new CustomizableThreadFactory("auth-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // Publishes executor.queued, executor.active and friends tagged name=auth.hashing
+        hashingExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, "auth.hashing");
+        signInTimer = Timer.builder("auth.hashing.duration").tag("operation", "signin")
+                .description("Time spent on a sign-in or sign-up, mostly BCrypt").register(meterRegistry);
+        signUpTimer = Timer.builder("auth.hashing.duration").tag("operation", "signup")
+                .description("Time spent on a sign-in or sign-up, mostly BCrypt").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    /**
+     * Completes exceptionally with a RejectedExecutionException when the hashing pool is saturated.
+     */
+    public CompletableFuture<JwtResponse> authenticateUserAsync(LoginRequest loginRequest) {
+        return submit(signInTimer, () -> authenticateUser(loginRequest));
+    }
+
+    public CompletableFuture<User> registerUserAsync(SignUpRequest signUpRequest) {
+        return submit(signUpTimer, () -> registerUser(signUpRequest));
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(work), hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
     public JwtResponse authenticateUser(LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -38,8 +115,7 @@ public class AuthService {
                 )
         );
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
+        // Not stored in the SecurityContext: this may run on a pooled thread, and the token is the session
         String jwt = tokenProvider.generateToken(authentication);
         
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
@@ -63,4 +139,15 @@ public class AuthService {
 
         return userRepository.save(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * Revoke the given token so it is refused from now until it expires.
+     */
+    public void signOut(String token) {
+        Claims claims = token != null ? tokenProvider.parseClaims(token) : null;
+        if (claims == null) {
+            throw new RuntimeException("Invalid or expired token");
+        }
+        tokenRevocationService.revoke(claims);
+    }
+}
@@ -0,0 +1,175 @@
+package com.company.opexhub.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.dto.ChangeFeedResponse;
+import com.company.opexhub.dto.InitiativeSummary;
+import com.company.opexhub.entity.ChangeLogEntry;
+import com.company.opexhub.entity.Comment;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.entity.WorkflowTransaction;
+import com.company.opexhub.repository.ChangeLogEntryRepository;
+import com.company.opexhub.repository.CommentRepository;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import com.company.opexhub.repository.WorkflowTransactionRepository;
+
+@Service
+public class ChangeFeedService {
+
+    @Autowired
+    private ChangeLogEntryRepository changeLogEntryRepository;
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private WorkflowTransactionRepository workflowTransactionRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    @Autowired
+    private WorkflowTransactionService workflowTransactionService;
+
+    @Autowired
+    private ChangeLogCursor changeLogCursor;
+
+    @Value("${change-feed.max-limit:1000}")
+    private int maxLimit;
+
+    /**
+     * Cursor for a client that has just loaded everything and only wants changes from now on.
+     */
+    public Long getHeadCursor() {
+        return committedThrough();
+    }
+
+    /**
+     * Changes logged after the cursor, collapsed to one item per entity with its current state.
+     * Only entries up to ChangeLogCursor's bound are handed out: a transaction that took its log id
+     * before a faster one but commits after it is still in flight then, and would otherwise be
+     * skipped once the cursor moves past it. Monitoring entries of initiatives the user has no
+     * savings monitoring access to are left out, by the same rule as the monitoring endpoints;
+     * with no user email nothing is filtered.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse getChangesSince(Long cursor, Integer limit, String userEmail, String userRole) {
+        int pageSize = limit == null || limit <= 0 ? maxLimit : Math.min(limit, maxLimit);
+        List<ChangeLogEntry> entries = changeLogEntryRepository.findByIdGreaterThanAndIdLessThanEqualOrderById(
+                cursor, committedThrough(), PageRequest.of(0, pageSize));
+
+        ChangeFeedResponse response = new ChangeFeedResponse(cursor);
+        Map<String, Map<Long, String>> latest = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            latest.computeIfAbsent(entry.getEntityType(), type -> new LinkedHashMap<>())
+                    .put(entry.getEntityId(), entry.getOperation());
+            response.setCursor(entry.getId());
+        }
+        if (entries.size() == pageSize) {
+            response.setHasMore(true);
+        }
+
+        Set<Long> initiativeIds = upserted("initiative", latest, response);
+        if (!initiativeIds.isEmpty()) {
+            List<InitiativeSummary> initiatives = initiativeRepository.findSummariesByIdIn(initiativeIds);
+            for (InitiativeSummary initiative : initiatives) {
+                initiativeIds.remove(initiative.getId());
+            }
+            response.setInitiatives(initiatives);
+            addDeleted("initiative", initiativeIds, response);
+        }
+
+        Set<Long> transactionIds = upserted("workflowTransaction", latest, response);
+        if (!transactionIds.isEmpty()) {
+            List<WorkflowTransaction> transactions = workflowTransactionRepository.findAllById(transactionIds);
+            for (WorkflowTransaction transaction : transactions) {
+                transactionIds.remove(transaction.getId());
+            }
+            response.setWorkflowTransactions(transactions);
+            addDeleted("workflowTransaction", transactionIds, response);
+        }
+
+        Set<Long> commentIds = upserted("comment", latest, response);
+        if (!commentIds.isEmpty()) {
+            List<Comment> comments = commentRepository.findWithUserByIdIn(commentIds);
+            for (Comment comment : comments) {
+                commentIds.remove(comment.getId());
+            }
+            response.setComments(comments);
+            addDeleted("comment", commentIds, response);
+        }
+
+        Set<Long> monitoringEntryIds = upserted("monitoringEntry", latest, response);
+        if (!monitoringEntryIds.isEmpty()) {
+            List<MonthlyMonitoringEntry> monitoringEntries = monthlyMonitoringEntryRepository.findAllById(monitoringEntryIds);
+            Set<Long> monitoredInitiativeIds = new HashSet<>();
+            for (MonthlyMonitoringEntry monitoringEntry : monitoringEntries) {
+                monitoringEntryIds.remove(monitoringEntry.getId());
+                monitoredInitiativeIds.add(monitoringEntry.getInitiative().getId());
+            }
+            if (userEmail != null) {
+                Set<Long> denied = workflowTransactionService.findInitiativesWithoutSavingsMonitoringAccess(
+                        monitoredInitiativeIds, userEmail, userRole);
+                List<MonthlyMonitoringEntry> visible = new ArrayList<>();
+                for (MonthlyMonitoringEntry monitoringEntry : monitoringEntries) {
+                    if (!denied.contains(monitoringEntry.getInitiative().getId())) {
+                        visible.add(monitoringEntry);
+                    }
+                }
+                monitoringEntries = visible;
+            }
+            response.setMonitoringEntries(monitoringEntries);
+            addDeleted("monitoringEntry", monitoringEntryIds, response);
+        }
+
+        return response;
+    }
+
+    /**
+     * Ids whose last logged operation is an upsert; the rest go straight to the deleted list.
+     */
+    private Set<Long> upserted(String entityType, Map<String, Map<Long, String>> latest, ChangeFeedResponse response) {
+        Set<Long> ids = new HashSet<>();
+        Map<Long, String> operations = latest.get(entityType);
+        if (operations == null) {
+            return ids;
+        }
+        for (Map.Entry<Long, String> operation : operations.entrySet()) {
+            if (ChangeLogListener.DELETE.equals(operation.getValue())) {
+                response.getDeleted().add(new ChangeFeedResponse.Deletion(entityType, operation.getKey()));
+            } else {
+                ids.add(operation.getKey());
+            }
+        }
+        return ids;
+    }
+
+    // Logged as upserted but gone by now; a later page carries the delete as well
+    private void addDeleted(String entityType, Set<Long> missingIds, ChangeFeedResponse response) {
+        for (Long id : missingIds) {
+            response.getDeleted().add(new ChangeFeedResponse.Deletion(entityType, id));
+        }
+    }
+
+    private long committedThrough() {
+        return changeLogCursor.committedThrough(() -> {
+            Long maxId = changeLogEntryRepository.findMaxId();
+            return maxId != null ? maxId : 0L;
+        });
+    }
+}
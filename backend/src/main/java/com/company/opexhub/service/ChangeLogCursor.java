@@ -0,0 +1,80 @@
+package com.company.opexhub.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * The highest change log id the feed can hand out without skipping a row that commits later. Log
+ * ids are taken from a sequence just before commit, but commits can finish in any order and take
+ * any time, so a reader must not pass the lowest id of a transaction still in flight. Ids are
+ * allocated with the lock held shared and the bound is taken with it held exclusively, so every id
+ * at or below the bound is either committed or rolled back. Tracked in this JVM, which is the only
+ * writer of the embedded database.
+ */
+@Component
+public class ChangeLogCursor {
+
+    private final ReadWriteLock allocationLock = new ReentrantReadWriteLock();
+
+    // Lowest log id of each transaction that has written its rows but not completed
+    private final Map<Object, Long> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong highestAllocated = new AtomicLong();
+    private volatile boolean seeded;
+
+    /**
+     * Called before a transaction takes its log ids; allocated must follow, also on failure.
+     */
+    void allocating() {
+        allocationLock.readLock().lock();
+    }
+
+    /**
+     * Record the ids a transaction took; they stay in flight until completed is called for it.
+     */
+    void allocated(Object transaction, Long lowest, Long highest) {
+        try {
+            if (lowest != null) {
+                inFlight.merge(transaction, lowest, Math::min);
+                highestAllocated.accumulateAndGet(highest, Math::max);
+            }
+        } finally {
+            allocationLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Called once the transaction has committed or rolled back.
+     */
+    void completed(Object transaction) {
+        inFlight.remove(transaction);
+    }
+
+    /**
+     * The bound itself. On first use the ids committed before this JVM started are taken from
+     * committedMax, which runs before the lock so no connection is awaited while writers wait.
+     */
+    public long committedThrough(LongSupplier committedMax) {
+        long committed = seeded ? 0 : committedMax.getAsLong();
+        allocationLock.writeLock().lock();
+        try {
+            if (!seeded) {
+                highestAllocated.accumulateAndGet(committed, Math::max);
+                seeded = true;
+            }
+            long bound = highestAllocated.get();
+            for (Long lowest : inFlight.values()) {
+                bound = Math.min(bound, lowest - 1);
+            }
+            return bound;
+        } finally {
+            allocationLock.writeLock().unlock();
+        }
+    }
+}
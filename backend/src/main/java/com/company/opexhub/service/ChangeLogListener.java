@@ -0,0 +1,129 @@
+package com.company.opexhub.service;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.company.opexhub.entity.ChangeLogEntry;
+import com.company.opexhub.entity.Comment;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.entity.WorkflowTransaction;
+
+/**
+ * Writes a change_log row for every insert, update and delete of the entities served by the change
+ * feed. Rows are collected per session and written just before the transaction commits, so they
+ * share its fate and cascaded deletes are covered without each service having to record them.
+ * Their ids stay in flight in ChangeLogCursor until the transaction completes.
+ */
+@Component
+public class ChangeLogListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    public static final String UPSERT = "UPSERT";
+    public static final String DELETE = "DELETE";
+
+    @Autowired
+    private ChangeLogCursor changeLogCursor;
+
+    private final Map<SessionImplementor, List<ChangeLogEntry>> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), UPSERT);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), UPSERT);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), DELETE);
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(EventSource session, Object entity, Serializable id, String operation) {
+        String entityType;
+        Long initiativeId;
+        if (entity instanceof Initiative) {
+            entityType = "initiative";
+            initiativeId = (Long) id;
+        } else if (entity instanceof WorkflowTransaction) {
+            entityType = "workflowTransaction";
+            initiativeId = ((WorkflowTransaction) entity).getInitiativeId();
+        } else if (entity instanceof Comment) {
+            entityType = "comment";
+            Initiative initiative = ((Comment) entity).getInitiative();
+            initiativeId = initiative != null ? initiative.getId() : null;
+        } else if (entity instanceof MonthlyMonitoringEntry) {
+            entityType = "monitoringEntry";
+            Initiative initiative = ((MonthlyMonitoringEntry) entity).getInitiative();
+            initiativeId = initiative != null ? initiative.getId() : null;
+        } else {
+            return;
+        }
+
+        pending.computeIfAbsent(session, this::registerCompletion)
+                .add(new ChangeLogEntry(entityType, (Long) id, initiativeId, operation));
+    }
+
+    /**
+     * Log changes made by bulk statements, which bypass the listener, with the session's other rows.
+     */
+    public void log(SessionImplementor session, Collection<ChangeLogEntry> entries) {
+        pending.computeIfAbsent(session, this::registerCompletion).addAll(entries);
+    }
+
+    private List<ChangeLogEntry> registerCompletion(SessionImplementor session) {
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::writePending);
+        // Drops the collected rows on rollback
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+            pending.remove(s);
+            changeLogCursor.completed(s);
+        });
+        return new ArrayList<>();
+    }
+
+    private void writePending(SessionImplementor session) {
+        List<ChangeLogEntry> entries = pending.remove(session);
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        // Ids are assigned on persist
+        Long lowest = null;
+        Long highest = null;
+        changeLogCursor.allocating();
+        try {
+            for (ChangeLogEntry entry : entries) {
+                session.persist(entry);
+                lowest = lowest == null ? entry.getId() : Math.min(lowest, entry.getId());
+                highest = highest == null ? entry.getId() : Math.max(highest, entry.getId());
+            }
+        } finally {
+            changeLogCursor.allocated(session, lowest, highest);
+        }
+        session.flush();
+    }
+}
@@ -0,0 +1,427 @@
+package com.company.opexhub.service;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.dto.CriticalPath;
+import com.company.opexhub.entity.TimelineTask;
+import com.company.opexhub.entity.TimelineTaskDependency;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.TimelineTaskDependencyRepository;
+import com.company.opexhub.repository.TimelineTaskRepository;
+
+/**
+ * Critical path and slack over an initiative's tasks and their finish-to-start dependencies.
+ * Unstarted tasks cannot start before today or before their predecessors finish; started tasks
+ * finish no earlier than today plus their remaining work, so slippage shows up as a later
+ * projected finish. Schedules are cached per initiative. A change to one task's dates or progress
+ * recomputes only its successors (forward) and predecessors (backward) in topological order;
+ * adding or removing tasks or links, or a new day, rebuilds the initiative in one linear pass.
+ * Every committed change bumps the initiative's stamp, and a rebuild is only cached if no change
+ * committed while it ran, so a schedule read before a change cannot replace one that has it.
+ * New links are checked for cycles under a lock on the initiative's row.
+ */
+@Service
+public class CriticalPathService {
+
+    @Autowired
+    private TimelineTaskRepository timelineTaskRepository;
+
+    @Autowired
+    private TimelineTaskDependencyRepository timelineTaskDependencyRepository;
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    private final ConcurrentHashMap<Long, Schedule> cache = new ConcurrentHashMap<>();
+
+    // Committed changes per initiative, only read and bumped inside cache.compute for that initiative
+    private final Map<Long, Long> stamps = new ConcurrentHashMap<>();
+
+    public CriticalPath getCriticalPath(Long initiativeId) {
+        if (!initiativeRepository.existsById(initiativeId)) {
+            throw new RuntimeException("Initiative not found");
+        }
+        LocalDate today = LocalDate.now();
+        Schedule schedule = cache.get(initiativeId);
+        if (schedule == null || schedule.today != today.toEpochDay()) {
+            long stamp = stamps.getOrDefault(initiativeId, 0L);
+            final Schedule built = build(initiativeId, today);
+            cache.compute(initiativeId, (id, current) ->
+                    stamps.getOrDefault(id, 0L) == stamp ? built : current);
+            schedule = built;
+        }
+        LocalDate target = initiativeRepository.findEndDateById(initiativeId).orElse(null);
+        synchronized (schedule) {
+            return schedule.toCriticalPath(initiativeId, target);
+        }
+    }
+
+    public List<TimelineTaskDependency> getDependencies(Long initiativeId) {
+        return timelineTaskDependencyRepository.findByInitiativeId(initiativeId);
+    }
+
+    @Transactional
+    public TimelineTaskDependency addDependency(Long predecessorId, Long successorId) {
+        if (predecessorId.equals(successorId)) {
+            throw new RuntimeException("A task cannot depend on itself");
+        }
+        Long initiativeId = timelineTaskRepository.findInitiativeIdById(successorId)
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+        Long predecessorInitiativeId = timelineTaskRepository.findInitiativeIdById(predecessorId)
+                .orElseThrow(() -> new RuntimeException("Predecessor task not found"));
+        if (!initiativeId.equals(predecessorInitiativeId)) {
+            throw new RuntimeException("Dependent tasks must belong to the same initiative");
+        }
+        // Locked before the cycle check so two opposite links cannot both pass it and both commit
+        initiativeRepository.findByIdForUpdate(initiativeId)
+                .orElseThrow(() -> new RuntimeException("Initiative not found"));
+        if (timelineTaskDependencyRepository.findByPredecessorIdAndSuccessorId(predecessorId, successorId).isPresent()) {
+            throw new RuntimeException("Dependency already exists");
+        }
+
+        // The new link closes a cycle if the predecessor is already reachable from the successor
+        List<TimelineTaskDependency> links = timelineTaskDependencyRepository.findByInitiativeId(initiativeId);
+        Map<Long, List<Long>> successors = new HashMap<>();
+        for (TimelineTaskDependency link : links) {
+            successors.computeIfAbsent(link.getPredecessorId(), id -> new ArrayList<>()).add(link.getSuccessorId());
+        }
+        Set<Long> seen = new HashSet<>();
+        Deque<Long> stack = new ArrayDeque<>();
+        stack.push(successorId);
+        while (!stack.isEmpty()) {
+            Long taskId = stack.pop();
+            if (taskId.equals(predecessorId)) {
+                throw new RuntimeException("Dependency would create a cycle");
+            }
+            if (seen.add(taskId)) {
+                for (Long next : successors.getOrDefault(taskId, Collections.<Long>emptyList())) {
+                    stack.push(next);
+                }
+            }
+        }
+
+        TimelineTaskDependency saved = timelineTaskDependencyRepository.save(
+                new TimelineTaskDependency(initiativeId, predecessorId, successorId));
+        evictAfterCommit(initiativeId);
+        return saved;
+    }
+
+    @Transactional
+    public void removeDependency(Long predecessorId, Long successorId) {
+        TimelineTaskDependency link = timelineTaskDependencyRepository
+                .findByPredecessorIdAndSuccessorId(predecessorId, successorId)
+                .orElseThrow(() -> new RuntimeException("Dependency not found"));
+        timelineTaskDependencyRepository.delete(link);
+        evictAfterCommit(link.getInitiativeId());
+    }
+
+    /**
+     * Once the caller's transaction commits, fold a task's new dates, progress and status into
+     * its initiative's cached schedule.
+     */
+    public void taskChangedAfterCommit(TimelineTask task) {
+        final Long initiativeId = task.getInitiative().getId();
+        final Long taskId = task.getId();
+        final TaskState state = new TaskState(task.getStartDate(), task.getEndDate(),
+                task.getProgressPercentage(), task.getStatus());
+        AfterCommit.run(() -> cache.compute(initiativeId, (id, schedule) -> {
+            stamps.merge(id, 1L, Long::sum);
+            if (schedule == null) {
+                return null;
+            }
+            synchronized (schedule) {
+                return schedule.update(taskId, state) ? schedule : null;
+            }
+        }));
+    }
+
+    /**
+     * Drop cached schedules once the caller's transaction commits, for changes to the task set or links.
+     */
+    public void evictAfterCommit(Long initiativeId) {
+        evictAfterCommit(Collections.singletonList(initiativeId));
+    }
+
+    public void evictAfterCommit(final Collection<Long> initiativeIds) {
+        AfterCommit.run(() -> {
+            for (Long initiativeId : initiativeIds) {
+                cache.compute(initiativeId, (id, schedule) -> {
+                    stamps.merge(id, 1L, Long::sum);
+                    return null;
+                });
+            }
+        });
+    }
+
+    private Schedule build(Long initiativeId, LocalDate today) {
+        List<Object[]> rows = timelineTaskRepository.findScheduleRows(initiativeId);
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            positions.put((Long) rows.get(i)[0], i);
+        }
+        List<List<Integer>> successors = new ArrayList<>();
+        List<List<Integer>> predecessors = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            successors.add(new ArrayList<>());
+            predecessors.add(new ArrayList<>());
+        }
+        for (TimelineTaskDependency link : timelineTaskDependencyRepository.findByInitiativeId(initiativeId)) {
+            Integer from = positions.get(link.getPredecessorId());
+            Integer to = positions.get(link.getSuccessorId());
+            if (from != null && to != null) {
+                successors.get(from).add(to);
+                predecessors.get(to).add(from);
+            }
+        }
+
+        // Kahn's algorithm, seeded in start date order so unrelated tasks keep a stable order
+        int[] remaining = new int[rows.size()];
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < rows.size(); i++) {
+            remaining[i] = predecessors.get(i).size();
+            if (remaining[i] == 0) {
+                ready.add(i);
+            }
+        }
+        int[] order = new int[rows.size()];
+        int count = 0;
+        while (!ready.isEmpty()) {
+            int i = ready.poll();
+            order[count++] = i;
+            for (int next : successors.get(i)) {
+                if (--remaining[next] == 0) {
+                    ready.add(next);
+                }
+            }
+        }
+        if (count < rows.size()) {
+            throw new RuntimeException("Task dependencies of initiative " + initiativeId + " contain a cycle");
+        }
+
+        int[] topo = new int[rows.size()];
+        for (int k = 0; k < order.length; k++) {
+            topo[order[k]] = k;
+        }
+        Node[] nodes = new Node[rows.size()];
+        for (int k = 0; k < order.length; k++) {
+            Object[] row = rows.get(order[k]);
+            Node node = new Node((Long) row[0], (String) row[1]);
+            node.state = new TaskState((LocalDate) row[2], (LocalDate) row[3], (Integer) row[4], (String) row[5]);
+            node.successors = remap(successors.get(order[k]), topo);
+            node.predecessors = remap(predecessors.get(order[k]), topo);
+            nodes[k] = node;
+        }
+        return new Schedule(today.toEpochDay(), nodes);
+    }
+
+    private int[] remap(List<Integer> positions, int[] topo) {
+        int[] result = new int[positions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = topo[positions.get(i)];
+        }
+        return result;
+    }
+
+    private static class TaskState {
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final int progress;
+        private final boolean completed;
+
+        TaskState(LocalDate startDate, LocalDate endDate, Integer progress, String status) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.progress = progress != null ? progress : 0;
+            this.completed = this.progress >= 100 || "Completed".equals(status);
+        }
+    }
+
+    private static class Node {
+        private final Long taskId;
+        private final String title;
+        private TaskState state;
+        // Positions in topological order
+        private int[] successors;
+        private int[] predecessors;
+        private long earlyStart;
+        private long earlyFinish;
+        // Days from this task's early start to the end of the longest chain it heads
+        private long tail;
+
+        Node(Long taskId, String title) {
+            this.taskId = taskId;
+            this.title = title;
+        }
+
+        long span() {
+            return earlyFinish - earlyStart + 1;
+        }
+    }
+
+    /**
+     * Nodes are held in topological order, so every predecessor sits at a lower index.
+     */
+    private static class Schedule {
+        private final long today;
+        private final Node[] nodes;
+        private final Map<Long, Integer> positions = new HashMap<>();
+
+        Schedule(long today, Node[] nodes) {
+            this.today = today;
+            this.nodes = nodes;
+            for (int i = 0; i < nodes.length; i++) {
+                positions.put(nodes[i].taskId, i);
+                forward(i);
+            }
+            for (int i = nodes.length - 1; i >= 0; i--) {
+                backward(i);
+            }
+        }
+
+        /**
+         * Apply one task's new state; false if the task is not part of this schedule.
+         */
+        boolean update(Long taskId, TaskState state) {
+            Integer position = positions.get(taskId);
+            if (position == null) {
+                return false;
+            }
+            nodes[position].state = state;
+
+            // Forward over the successors whose early dates actually move, lowest position first
+            Set<Integer> spanChanged = new HashSet<>();
+            PriorityQueue<Integer> queue = new PriorityQueue<>();
+            Set<Integer> queued = new HashSet<>();
+            queue.add(position);
+            queued.add(position);
+            while (!queue.isEmpty()) {
+                int i = queue.poll();
+                Node node = nodes[i];
+                long finish = node.earlyFinish;
+                long span = node.span();
+                forward(i);
+                if (node.span() != span) {
+                    spanChanged.add(i);
+                }
+                if (node.earlyFinish != finish || i == position) {
+                    for (int next : node.successors) {
+                        if (queued.add(next)) {
+                            queue.add(next);
+                        }
+                    }
+                }
+            }
+
+            // Backward over the predecessors whose chain length changes, highest position first
+            queue = new PriorityQueue<>(Comparator.reverseOrder());
+            queue.addAll(spanChanged);
+            queued = new HashSet<>(spanChanged);
+            while (!queue.isEmpty()) {
+                int i = queue.poll();
+                Node node = nodes[i];
+                long tail = node.tail;
+                backward(i);
+                if (node.tail != tail) {
+                    for (int previous : node.predecessors) {
+                        if (queued.add(previous)) {
+                            queue.add(previous);
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void forward(int i) {
+            Node node = nodes[i];
+            TaskState state = node.state;
+            Long start = state.startDate != null ? state.startDate.toEpochDay() : null;
+            Long end = state.endDate != null ? state.endDate.toEpochDay() : null;
+            long duration = start != null && end != null ? Math.max(1, end - start + 1) : 1;
+            long plannedStart = start != null ? start : end != null ? end - duration + 1 : today;
+
+            if (state.completed) {
+                node.earlyStart = plannedStart;
+                node.earlyFinish = plannedStart + duration - 1;
+            } else if (state.progress > 0) {
+                long left = (duration * (100 - state.progress) + 99) / 100;
+                node.earlyStart = plannedStart;
+                node.earlyFinish = Math.max(plannedStart + duration - 1, today + left - 1);
+            } else {
+                long earliest = Math.max(plannedStart, today);
+                for (int previous : node.predecessors) {
+                    earliest = Math.max(earliest, nodes[previous].earlyFinish + 1);
+                }
+                node.earlyStart = earliest;
+                node.earlyFinish = earliest + duration - 1;
+            }
+        }
+
+        private void backward(int i) {
+            Node node = nodes[i];
+            long longest = 0;
+            for (int next : node.successors) {
+                longest = Math.max(longest, nodes[next].tail);
+            }
+            node.tail = node.span() + longest;
+        }
+
+        CriticalPath toCriticalPath(Long initiativeId, LocalDate target) {
+            CriticalPath result = new CriticalPath(initiativeId, LocalDate.ofEpochDay(today));
+            result.setTargetEndDate(target);
+            if (nodes.length == 0) {
+                return result;
+            }
+
+            long finish = Long.MIN_VALUE;
+            for (Node node : nodes) {
+                finish = Math.max(finish, node.earlyFinish);
+            }
+            result.setProjectedFinish(LocalDate.ofEpochDay(finish));
+            if (target != null) {
+                result.setVarianceDays(finish - target.toEpochDay());
+            }
+
+            List<Node> critical = new ArrayList<>();
+            for (Node node : nodes) {
+                long lateFinish = finish - (node.tail - node.span());
+                CriticalPath.TaskSchedule task = new CriticalPath.TaskSchedule(node.taskId, node.title);
+                for (int previous : node.predecessors) {
+                    task.getPredecessorIds().add(nodes[previous].taskId);
+                }
+                task.setEarlyStart(LocalDate.ofEpochDay(node.earlyStart));
+                task.setEarlyFinish(LocalDate.ofEpochDay(node.earlyFinish));
+                task.setLateStart(LocalDate.ofEpochDay(lateFinish - node.span() + 1));
+                task.setLateFinish(LocalDate.ofEpochDay(lateFinish));
+                task.setSlackDays(lateFinish - node.earlyFinish);
+                task.setCritical(task.getSlackDays() <= 0);
+                if (task.isCritical()) {
+                    critical.add(node);
+                }
+                result.getTasks().add(task);
+            }
+            critical.sort(Comparator.comparingLong((Node node) -> node.earlyStart));
+            for (Node node : critical) {
+                result.getCriticalTaskIds().add(node.taskId);
+            }
+            return result;
+        }
+    }
+}
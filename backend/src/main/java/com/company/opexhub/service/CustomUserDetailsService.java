@@ -3,19 +3,42 @@ package com.company.opexhub.service;
 import com.company.opexhub.entity.User;
 import com.company.opexhub.repository.UserRepository;
 import com.company.opexhub.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     @Autowired
     UserRepository userRepository;
 
+    @Value("${security.principal-cache.ttl:PT5M}")
+    private Duration principalCacheTtl;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private long principalCacheMaxSize;
+
+    // Principals of token-authenticated requests by user id; evicted by UserPrincipalCacheListener on change
+    private Cache<Long, UserPrincipal> principals;
+
+    @PostConstruct
+    public void init() {
+        principals = Caffeine.newBuilder()
+                .maximumSize(principalCacheMaxSize)
+                .expireAfterWrite(principalCacheTtl)
+                .build();
+    }
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -27,13 +50,26 @@ public class CustomUserDetailsService implements UserDetailsService {
         return UserPrincipal.create(user);
     }
 
-    @Transactional
+    /**
+     * Called on every authenticated request, so a cache hit opens no transaction
+     */
     public UserDetails loadUserById(Long id) {
+        UserPrincipal cached = principals.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findById(id)
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found with id : " + id)
                 );
 
-        return UserPrincipal.create(user);
+        UserPrincipal principal = UserPrincipal.create(user);
+        principals.put(id, principal);
+        return principal;
+    }
+
+    public void evictPrincipal(Long id) {
+        principals.invalidate(id);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package com.company.opexhub.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.company.opexhub.entity.Initiative;
+
+/**
+ * Feeds initiative inserts, updates and deletes to DashboardService as deltas once the transaction
+ * has committed; rolled back changes are dropped. The commit and the applying of its deltas happen
+ * under DashboardService's commit lock, so a concurrent rebuild cannot count them twice.
+ */
+@Component
+public class DashboardListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    // Initiative properties the dashboard aggregates over, in DashboardService.apply order
+    private static final String[] PROPERTIES = {
+        "status", "site", "discipline", "currentStage", "expectedSavings", "actualSavings"
+    };
+
+    private static final Object[] REBUILD = new Object[0];
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    private final Map<SessionImplementor, Pending> pending = new ConcurrentHashMap<>();
+    private volatile int[] propertyIndexes;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Initiative) {
+            record(event.getSession(), tracked(event.getPersister(), event.getState()), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Initiative)) {
+            return;
+        }
+        Object[] newValues = tracked(event.getPersister(), event.getState());
+        if (event.getOldState() == null) {
+            // Update of a detached instance: the previous values are unknown, so recount instead
+            pending.computeIfAbsent(event.getSession(), this::registerCompletion).deltas.add(REBUILD);
+            return;
+        }
+        Object[] oldValues = tracked(event.getPersister(), event.getOldState());
+        if (!sameValues(oldValues, newValues)) {
+            record(event.getSession(), oldValues, -1);
+            record(event.getSession(), newValues, 1);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Initiative) {
+            record(event.getSession(), tracked(event.getPersister(), event.getDeletedState()), -1);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(EventSource session, Object[] values, int count) {
+        Object[] delta = Arrays.copyOf(values, values.length + 1);
+        delta[values.length] = count;
+        pending.computeIfAbsent(session, this::registerCompletion).deltas.add(delta);
+    }
+
+    private Pending registerCompletion(SessionImplementor session) {
+        Pending registered = new Pending();
+        // Not called on rollback, so the lock is only released where it was taken
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s -> {
+            dashboardService.commitStarting();
+            registered.locked = true;
+        });
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+            Pending completed = pending.remove(s);
+            try {
+                if (success && completed != null) {
+                    apply(completed.deltas);
+                }
+            } finally {
+                if (registered.locked) {
+                    dashboardService.commitApplied();
+                }
+            }
+        });
+        return registered;
+    }
+
+    private void apply(List<Object[]> deltas) {
+        if (deltas.contains(REBUILD)) {
+            dashboardService.markStale();
+            return;
+        }
+        for (Object[] delta : deltas) {
+            dashboardService.apply((String) delta[0], (String) delta[1], (String) delta[2], (Integer) delta[3],
+                    (Integer) delta[6], (BigDecimal) delta[4], (BigDecimal) delta[5]);
+        }
+    }
+
+    private Object[] tracked(EntityPersister persister, Object[] state) {
+        int[] indexes = propertyIndexes;
+        if (indexes == null) {
+            indexes = new int[PROPERTIES.length];
+            for (int i = 0; i < PROPERTIES.length; i++) {
+                indexes[i] = persister.getEntityMetamodel().getPropertyIndex(PROPERTIES[i]);
+            }
+            propertyIndexes = indexes;
+        }
+
+        Object[] values = new Object[PROPERTIES.length];
+        for (int i = 0; i < indexes.length; i++) {
+            values[i] = state[indexes[i]];
+        }
+        return values;
+    }
+
+    private static class Pending {
+        private final List<Object[]> deltas = new ArrayList<>();
+        private boolean locked;
+    }
+
+    private boolean sameValues(Object[] oldValues, Object[] newValues) {
+        for (int i = 0; i < oldValues.length; i++) {
+            Object oldValue = oldValues[i];
+            Object newValue = newValues[i];
+            // BigDecimal equality is scale sensitive (5 vs 5.00)
+            if (oldValue instanceof BigDecimal && newValue instanceof BigDecimal) {
+                if (((BigDecimal) oldValue).compareTo((BigDecimal) newValue) != 0) {
+                    return false;
+                }
+            } else if (!Objects.equals(oldValue, newValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,237 @@
+package com.company.opexhub.service;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.company.opexhub.dto.DashboardSummary;
+import com.company.opexhub.repository.InitiativeRepository;
+
+/**
+ * Portfolio totals kept in memory as one cell per (status, site, discipline, stage). The cells are
+ * loaded with a single GROUP BY and then moved by the deltas DashboardListener reports after each
+ * committed initiative write, so serving the dashboard never touches the table. A periodic rebuild
+ * corrects any drift, e.g. from bulk JPQL statements that bypass the listener.
+ *
+ * A transaction with deltas holds the commit lock shared from just before it commits until its
+ * deltas are applied, and a rebuild holds it exclusively while it reads the snapshot. Each commit is
+ * therefore either in the snapshot with its deltas already applied and overwritten, or after the
+ * snapshot with its deltas applied on top, never both. The rebuild takes its connection before the
+ * lock: committing transactions wait for the lock while holding theirs, so a rebuild waiting for a
+ * free connection under the lock could stall every write. Stale cells are recounted in the
+ * background and never on a request thread.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    private static final String UNKNOWN = "Unknown";
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private TaskExecutor taskExecutor;
+
+    // Guarded by this; rebuilds take commitLock first, apply runs with it held shared
+    private Map<CellKey, Cell> cells = new HashMap<>();
+    private volatile boolean stale;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${dashboard.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        rebuild(false);
+    }
+
+    // Never call while holding the monitor: a committing transaction holds commitLock and waits for it
+    private void rebuild(final boolean onlyIfStale) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        // Beginning the transaction binds its connection, so none is awaited under the lock
+        transaction.execute(status -> {
+            commitLock.writeLock().lock();
+            try {
+                // Readers that found the cells stale together rebuild once
+                if (onlyIfStale && !stale) {
+                    return null;
+                }
+                // Cleared first: a commit marking the cells stale from here on is not in the snapshot
+                stale = false;
+                Map<CellKey, Cell> rebuilt = new HashMap<>();
+                try {
+                    for (Object[] row : initiativeRepository.aggregateByStatusSiteDisciplineAndStage()) {
+                        Cell cell = new Cell();
+                        cell.count = (Long) row[4];
+                        cell.expectedSavings = row[5] != null ? (BigDecimal) row[5] : BigDecimal.ZERO;
+                        cell.actualSavings = row[6] != null ? (BigDecimal) row[6] : BigDecimal.ZERO;
+                        rebuilt.put(new CellKey((String) row[0], (String) row[1], (String) row[2], (Integer) row[3]), cell);
+                    }
+                } catch (RuntimeException e) {
+                    stale = true;
+                    throw e;
+                }
+                synchronized (this) {
+                    cells = rebuilt;
+                }
+                logger.debug("Dashboard aggregates rebuilt: {} cells", rebuilt.size());
+                return null;
+            } finally {
+                commitLock.writeLock().unlock();
+            }
+        });
+    }
+
+    // At most one background rebuild waits at a time; it recounts only if the cells are still stale
+    private void rebuildInBackground() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                try {
+                    rebuild(true);
+                } catch (RuntimeException e) {
+                    logger.error("Dashboard rebuild failed", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rebuildQueued.set(false);
+            logger.warn("Dashboard rebuild not queued: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Called by a transaction with deltas just before it commits; commitApplied must follow once
+     * its deltas are applied or it has rolled back.
+     */
+    void commitStarting() {
+        commitLock.readLock().lock();
+    }
+
+    void commitApplied() {
+        commitLock.readLock().unlock();
+    }
+
+    /**
+     * Apply a committed change: count is +1 for an insert, -1 for a delete, and an update is sent
+     * as a -1 for the old values followed by a +1 for the new ones.
+     */
+    public synchronized void apply(String status, String site, String discipline, Integer stage,
+                                   int count, BigDecimal expectedSavings, BigDecimal actualSavings) {
+        CellKey key = new CellKey(status, site, discipline, stage);
+        Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+        cell.count += count;
+        if (expectedSavings != null) {
+            cell.expectedSavings = count > 0 ? cell.expectedSavings.add(expectedSavings) : cell.expectedSavings.subtract(expectedSavings);
+        }
+        if (actualSavings != null) {
+            cell.actualSavings = count > 0 ? cell.actualSavings.add(actualSavings) : cell.actualSavings.subtract(actualSavings);
+        }
+        if (cell.count <= 0) {
+            cells.remove(key);
+        }
+    }
+
+    /**
+     * Recount in the background, for writes whose effect on the cells is not known. Reads serve the
+     * current cells until the recount is done.
+     */
+    public void markStale() {
+        stale = true;
+        rebuildInBackground();
+    }
+
+    public DashboardSummary getSummary(String site) {
+        // Retried here in case the last background rebuild failed
+        if (stale) {
+            rebuildInBackground();
+        }
+        synchronized (this) {
+            return summarize(site);
+        }
+    }
+
+    private DashboardSummary summarize(String site) {
+        DashboardSummary summary = new DashboardSummary();
+        for (Map.Entry<CellKey, Cell> entry : cells.entrySet()) {
+            CellKey key = entry.getKey();
+            Cell cell = entry.getValue();
+            if (site != null && !site.equals(key.site)) {
+                continue;
+            }
+            summary.getTotal().add(cell.count, cell.expectedSavings, cell.actualSavings);
+            // Sorted maps cannot hold null keys, so missing values are grouped under a placeholder
+            bucket(summary.getByStatus(), key.status != null ? key.status : UNKNOWN).add(cell.count, cell.expectedSavings, cell.actualSavings);
+            bucket(summary.getBySite(), key.site != null ? key.site : UNKNOWN).add(cell.count, cell.expectedSavings, cell.actualSavings);
+            bucket(summary.getByDiscipline(), key.discipline != null ? key.discipline : UNKNOWN).add(cell.count, cell.expectedSavings, cell.actualSavings);
+            bucket(summary.getByStage(), key.stage != null ? key.stage : 0).add(cell.count, cell.expectedSavings, cell.actualSavings);
+        }
+        return summary;
+    }
+
+    private <K> DashboardSummary.Bucket bucket(Map<K, DashboardSummary.Bucket> buckets, K key) {
+        return buckets.computeIfAbsent(key, k -> new DashboardSummary.Bucket());
+    }
+
+    private static class CellKey {
+        private final String status;
+        private final String site;
+        private final String discipline;
+        private final Integer stage;
+
+        CellKey(String status, String site, String discipline, Integer stage) {
+            this.status = status;
+            this.site = site;
+            this.discipline = discipline;
+            this.stage = stage;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CellKey that = (CellKey) o;
+            return Objects.equals(status, that.status) && Objects.equals(site, that.site)
+                    && Objects.equals(discipline, that.discipline) && Objects.equals(stage, that.stage);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(status, site, discipline, stage);
+        }
+    }
+
+    private static class Cell {
+        private long count;
+        private BigDecimal expectedSavings = BigDecimal.ZERO;
+        private BigDecimal actualSavings = BigDecimal.ZERO;
+    }
+}
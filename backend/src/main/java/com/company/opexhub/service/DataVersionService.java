@@ -0,0 +1,65 @@
+package com.company.opexhub.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import com.company.opexhub.repository.TimelineEntryRepository;
+import com.company.opexhub.repository.WorkflowTransactionRepository;
+
+/**
+ * Cheap data-version stamps for conditional GETs. A collection's stamp is its row count plus the
+ * latest updatedAt, both answered from the updated_at indexes without loading any rows, so it
+ * changes on every insert, update or delete.
+ */
+@Service
+public class DataVersionService {
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private WorkflowTransactionRepository workflowTransactionRepository;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Autowired
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    public String getInitiativesVersion() {
+        return "i-" + stamp(initiativeRepository.findVersionStamp());
+    }
+
+    public Optional<String> getInitiativeVersion(Long id) {
+        return initiativeRepository.findUpdatedAtById(id)
+                .map(updatedAt -> "i" + id + "-" + toMillis(updatedAt));
+    }
+
+    public String getWorkflowTransactionsVersion(Long initiativeId) {
+        return "wt" + initiativeId + "-" + stamp(workflowTransactionRepository.findVersionStampByInitiativeId(initiativeId));
+    }
+
+    public String getTimelineEntriesVersion(Long initiativeId) {
+        return "te" + initiativeId + "-" + stamp(timelineEntryRepository.findVersionStampByInitiativeId(initiativeId));
+    }
+
+    public String getMonitoringEntriesVersion() {
+        return "mm-" + stamp(monthlyMonitoringEntryRepository.findVersionStamp());
+    }
+
+    private String stamp(List<Object[]> result) {
+        Object[] row = result.get(0);
+        return row[0] + "-" + toMillis((LocalDateTime) row[1]);
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+}
@@ -0,0 +1,162 @@
+package com.company.opexhub.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.dto.BulkDeleteResult;
+import com.company.opexhub.entity.ChangeLogEntry;
+import com.company.opexhub.repository.CommentRepository;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import com.company.opexhub.repository.TimelineEntryRepository;
+import com.company.opexhub.repository.TimelineTaskDependencyRepository;
+import com.company.opexhub.repository.TimelineTaskRepository;
+import com.company.opexhub.repository.WorkflowTransactionRepository;
+
+/**
+ * Deletes initiatives and every dependent row with one DELETE ... WHERE initiative_id IN (...) per
+ * table, instead of loading each comment and task through the JPA cascades. Bulk statements bypass
+ * the Hibernate listeners, so the change log, dashboard, inbox and timeline index updates are
+ * made here.
+ */
+@Service
+public class InitiativeDeletionService {
+
+    // Keeps IN lists within what every database accepts
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private WorkflowTransactionRepository workflowTransactionRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TimelineTaskRepository timelineTaskRepository;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Autowired
+    private TimelineTaskDependencyRepository timelineTaskDependencyRepository;
+
+    @Autowired
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    @Autowired
+    private ChangeLogListener changeLogListener;
+
+    @Autowired
+    private WorkflowTransactionService workflowTransactionService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TimelineIntervalIndex timelineIntervalIndex;
+
+    @Autowired
+    private CriticalPathService criticalPathService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public void deleteInitiative(Long id) {
+        if (deleteInitiatives(Collections.singletonList(id)).getDeleted() == 0) {
+            throw new RuntimeException("Initiative not found");
+        }
+    }
+
+    /**
+     * Delete all the given initiatives in one transaction. Ids that do not exist are reported back
+     * rather than failing the batch.
+     */
+    @Transactional
+    public BulkDeleteResult deleteInitiatives(Collection<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        BulkDeleteResult result = new BulkDeleteResult();
+        result.setRequested(distinctIds.size());
+
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_LIMIT) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, distinctIds.size()));
+            deleteChunk(chunk, result);
+        }
+
+        // Anything still managed in this context refers to rows that no longer exist
+        entityManager.flush();
+        entityManager.clear();
+        return result;
+    }
+
+    private void deleteChunk(List<Long> chunk, BulkDeleteResult result) {
+        List<Long> existing = initiativeRepository.findExistingIds(chunk);
+        Set<Long> existingSet = new HashSet<>(existing);
+        for (Long id : chunk) {
+            if (!existingSet.contains(id)) {
+                result.getNotFound().add(id);
+            }
+        }
+        if (existing.isEmpty()) {
+            return;
+        }
+
+        // Read what the listeners would have seen before the rows are gone
+        List<ChangeLogEntry> changes = new ArrayList<>();
+        addDeletions(changes, "workflowTransaction", workflowTransactionRepository.findIdsByInitiativeIdIn(existing));
+        addDeletions(changes, "comment", commentRepository.findIdsByInitiativeIdIn(existing));
+        addDeletions(changes, "monitoringEntry", monthlyMonitoringEntryRepository.findIdsByInitiativeIdIn(existing));
+        for (Long id : existing) {
+            changes.add(new ChangeLogEntry("initiative", id, id, ChangeLogListener.DELETE));
+        }
+        List<Object[]> dashboardCells = initiativeRepository.aggregateByStatusSiteDisciplineAndStageForIds(existing);
+        workflowTransactionService.notifyInboxRemovals(
+                workflowTransactionRepository.findByInitiativeIdInAndApproveStatus(existing, "pending"));
+
+        // Children first so the foreign keys to initiatives are never violated
+        timelineTaskDependencyRepository.deleteByInitiativeIdIn(existing);
+        timelineTaskRepository.deleteByInitiativeIdIn(existing);
+        commentRepository.deleteByInitiativeIdIn(existing);
+        timelineEntryRepository.deleteByInitiativeIdIn(existing);
+        monthlyMonitoringEntryRepository.deleteByInitiativeIdIn(existing);
+        workflowTransactionRepository.deleteByInitiativeIdIn(existing);
+        result.setDeleted(result.getDeleted() + initiativeRepository.deleteByIdIn(existing));
+
+        changeLogListener.log(entityManager.unwrap(SessionImplementor.class), changes);
+        removeAfterCommit(existing, dashboardCells);
+        criticalPathService.evictAfterCommit(existing);
+    }
+
+    private void addDeletions(List<ChangeLogEntry> changes, String entityType, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            changes.add(new ChangeLogEntry(entityType, (Long) row[0], (Long) row[1], ChangeLogListener.DELETE));
+        }
+    }
+
+    private void removeAfterCommit(final List<Long> initiativeIds, final List<Object[]> cells) {
+        AfterCommit.run(() -> {
+            timelineIntervalIndex.removeInitiatives(initiativeIds);
+            for (Object[] cell : cells) {
+                dashboardService.apply((String) cell[0], (String) cell[1], (String) cell[2], (Integer) cell[3],
+                        -((Long) cell[4]).intValue(), (BigDecimal) cell[5], (BigDecimal) cell[6]);
+            }
+        });
+    }
+}
@@ -0,0 +1,332 @@
+package com.company.opexhub.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.company.opexhub.dto.InitiativeImportResult;
+import com.company.opexhub.dto.InitiativeRequest;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.User;
+import com.company.opexhub.entity.WfMaster;
+import com.company.opexhub.entity.WorkflowTransaction;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.repository.WfMasterRepository;
+import com.company.opexhub.repository.WorkflowTransactionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Bulk initiative import from CSV or NDJSON. Rows are parsed and validated as they are read and
+ * written in chunks, each chunk in its own transaction, so a bad chunk never rolls back earlier ones.
+ */
+@Service
+public class InitiativeImportService {
+
+    public static final String CSV = "text/csv";
+    public static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WfMasterRepository wfMasterRepository;
+
+    @Autowired
+    private WorkflowTransactionRepository workflowTransactionRepository;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private WorkflowTransactionService workflowTransactionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${initiative.import.chunk-size:500}")
+    private int defaultChunkSize;
+
+    public InitiativeImportResult importInitiatives(InputStream inputStream, String contentType,
+                                                    Integer chunkSize, Long userId) throws IOException {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        int size = chunkSize != null && chunkSize > 0 ? chunkSize : defaultChunkSize;
+        ImportRun run = new ImportRun(user, size);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        if (contentType != null && contentType.startsWith(NDJSON)) {
+            readNdjson(reader, run);
+        } else if (contentType != null && contentType.startsWith(CSV)) {
+            readCsv(reader, run);
+        } else {
+            throw new RuntimeException("Unsupported import format: " + contentType);
+        }
+        flush(run);
+
+        return run.result;
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        String line;
+        int rowNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            rowNumber++;
+            try {
+                accept(rowNumber, objectMapper.readValue(line, InitiativeRequest.class), run);
+            } catch (IOException e) {
+                rejectUnreadable(rowNumber, e, run);
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+        // Excel's "CSV UTF-8" starts the file with a byte-order mark
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        List<String> values;
+        int rowNumber = 0;
+        while ((values = csv.readRecord()) != null) {
+            if (values.size() == 1 && values.get(0).trim().isEmpty()) {
+                continue;
+            }
+            rowNumber++;
+
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                String value = values.get(i).trim();
+                // Blank cells fall back to the request defaults rather than empty strings
+                if (!value.isEmpty()) {
+                    row.put(header.get(i).trim(), value);
+                }
+            }
+
+            try {
+                accept(rowNumber, objectMapper.convertValue(row, InitiativeRequest.class), run);
+            } catch (IllegalArgumentException e) {
+                rejectUnreadable(rowNumber, e, run);
+            }
+        }
+    }
+
+    private void rejectUnreadable(int rowNumber, Exception e, ImportRun run) {
+        run.result.setTotalRows(run.result.getTotalRows() + 1);
+        String message = e.getMessage() != null ? e.getMessage().split("\n")[0] : e.getClass().getSimpleName();
+        run.result.addError(rowNumber, "Unreadable row: " + message);
+    }
+
+    private void accept(int rowNumber, InitiativeRequest request, ImportRun run) {
+        run.result.setTotalRows(run.result.getTotalRows() + 1);
+
+        Set<ConstraintViolation<InitiativeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            StringBuilder message = new StringBuilder();
+            for (ConstraintViolation<InitiativeRequest> violation : violations) {
+                if (message.length() > 0) {
+                    message.append("; ");
+                }
+                message.append(violation.getPropertyPath()).append(' ').append(violation.getMessage());
+            }
+            run.result.addError(rowNumber, message.toString());
+            return;
+        }
+
+        if (workflowStagesFor(request.getSite(), run).isEmpty()) {
+            run.result.addError(rowNumber, "No workflow configuration found for site: " + request.getSite());
+            return;
+        }
+
+        run.pendingRows.add(rowNumber);
+        run.pendingRequests.add(request);
+        if (run.pendingRequests.size() >= run.chunkSize) {
+            flush(run);
+        }
+    }
+
+    private List<WfMaster> workflowStagesFor(String site, ImportRun run) {
+        List<WfMaster> stages = run.workflowStages.get(site);
+        if (stages == null) {
+            stages = wfMasterRepository.findBySiteAndIsActiveOrderByStageNumber(site, true);
+            run.workflowStages.put(site, stages);
+        }
+        return stages;
+    }
+
+    /**
+     * Write the pending rows as one transaction. Initiative numbers are taken from in-memory counters
+     * read from the database once per site at the start of each chunk, so initiatives created
+     * elsewhere between chunks, or numbers freed by a rolled-back chunk, are picked up.
+     */
+    private void flush(final ImportRun run) {
+        if (run.pendingRequests.isEmpty()) {
+            return;
+        }
+
+        run.siteCounters.clear();
+        run.disciplineCounters.clear();
+        try {
+            new TransactionTemplate(transactionManager).execute(status -> {
+                List<Initiative> initiatives = new ArrayList<>(run.pendingRequests.size());
+                for (InitiativeRequest request : run.pendingRequests) {
+                    Initiative initiative = initiativeService.buildInitiative(request, run.user);
+                    initiative.setInitiativeNumber(nextInitiativeNumber(request.getSite(), request.getDiscipline(), run));
+                    initiatives.add(initiative);
+                }
+                initiativeRepository.saveAll(initiatives);
+
+                List<WorkflowTransaction> transactions = new ArrayList<>(initiatives.size() * 2);
+                for (Initiative initiative : initiatives) {
+                    transactions.addAll(workflowTransactionService.buildInitialWorkflowTransactions(
+                            initiative, workflowStagesFor(initiative.getSite(), run)));
+                }
+                workflowTransactionRepository.saveAll(transactions);
+                workflowTransactionService.notifyInboxAdditions(transactions);
+
+                // Keep the persistence context from growing across chunks
+                entityManager.flush();
+                entityManager.clear();
+                return null;
+            });
+            run.result.setImported(run.result.getImported() + run.pendingRequests.size());
+        } catch (RuntimeException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (Integer rowNumber : run.pendingRows) {
+                run.result.addError(rowNumber, "Chunk rolled back: " + message);
+            }
+        } finally {
+            run.pendingRows.clear();
+            run.pendingRequests.clear();
+        }
+    }
+
+    private String nextInitiativeNumber(String site, String discipline, ImportRun run) {
+        if (!run.siteCounters.containsKey(site)) {
+            long siteCount = 0;
+            for (Object[] row : initiativeRepository.countByDisciplineForSiteAndYear(site, run.year)) {
+                run.disciplineCounters.put(site + "|" + row[0], (Long) row[1]);
+                siteCount += (Long) row[1];
+            }
+            run.siteCounters.put(site, siteCount);
+        }
+
+        String disciplineKey = site + "|" + discipline;
+        Long disciplineCount = run.disciplineCounters.get(disciplineKey);
+        long disciplineSequence = (disciplineCount != null ? disciplineCount : 0) + 1;
+        long siteSequence = run.siteCounters.get(site) + 1;
+        run.disciplineCounters.put(disciplineKey, disciplineSequence);
+        run.siteCounters.put(site, siteSequence);
+
+        return initiativeService.formatInitiativeNumber(site, discipline, run.year, disciplineSequence, siteSequence);
+    }
+
+    private static class ImportRun {
+        private final User user;
+        private final int chunkSize;
+        private final int year = LocalDate.now().getYear();
+        private final InitiativeImportResult result = new InitiativeImportResult();
+        private final List<Integer> pendingRows = new ArrayList<>();
+        private final List<InitiativeRequest> pendingRequests = new ArrayList<>();
+        private final Map<String, List<WfMaster>> workflowStages = new HashMap<>();
+        private final Map<String, Long> siteCounters = new HashMap<>();
+        private final Map<String, Long> disciplineCounters = new HashMap<>();
+
+        ImportRun(User user, int chunkSize) {
+            this.user = user;
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    /**
+     * Minimal RFC 4180 reader: quoted fields, doubled quotes and line breaks inside quotes.
+     */
+    private static class CsvReader {
+        private final BufferedReader reader;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -1,15 +1,27 @@
 package com.company.opexhub.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.company.opexhub.dto.InitiativeRequest;
+import com.company.opexhub.dto.InitiativeResponse;
+import com.company.opexhub.dto.InitiativeSummary;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.entity.User;
 import com.company.opexhub.repository.InitiativeRepository;
@@ -28,6 +40,46 @@ public class InitiativeService {
     @Autowired
     private WorkflowTransactionService workflowTransactionService;
 
+    @Autowired
+    private InitiativeDeletionService initiativeDeletionService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Same filter as InitiativeRepository.findSummaries
+    private static final String SUMMARY_FILTER =
+            " WHERE (:status IS NULL OR i.status = :status) AND (:site IS NULL OR i.site = :site)" +
+            " AND (:title IS NULL OR i.title LIKE CONCAT('%', :title, '%'))";
+
+    // Fields a list client may pick with ?fields=, mapped to their JPQL paths
+    private static final Map<String, String> SUMMARY_FIELDS = new LinkedHashMap<>();
+
+    static {
+        SUMMARY_FIELDS.put("id", "i.id");
+        SUMMARY_FIELDS.put("title", "i.title");
+        SUMMARY_FIELDS.put("status", "i.status");
+        SUMMARY_FIELDS.put("priority", "i.priority");
+        SUMMARY_FIELDS.put("expectedSavings", "i.expectedSavings");
+        SUMMARY_FIELDS.put("actualSavings", "i.actualSavings");
+        SUMMARY_FIELDS.put("site", "i.site");
+        SUMMARY_FIELDS.put("discipline", "i.discipline");
+        SUMMARY_FIELDS.put("initiativeNumber", "i.initiativeNumber");
+        SUMMARY_FIELDS.put("startDate", "i.startDate");
+        SUMMARY_FIELDS.put("endDate", "i.endDate");
+        SUMMARY_FIELDS.put("progressPercentage", "i.progressPercentage");
+        SUMMARY_FIELDS.put("currentStage", "i.currentStage");
+        SUMMARY_FIELDS.put("currentStageName", "i.currentStage");
+        SUMMARY_FIELDS.put("requiresMoc", "i.requiresMoc");
+        SUMMARY_FIELDS.put("requiresCapex", "i.requiresCapex");
+        SUMMARY_FIELDS.put("createdAt", "i.createdAt");
+        SUMMARY_FIELDS.put("updatedAt", "i.updatedAt");
+        SUMMARY_FIELDS.put("createdByName", "u.fullName");
+        SUMMARY_FIELDS.put("createdByEmail", "u.email");
+        SUMMARY_FIELDS.put("initiatorName", "i.initiatorName");
+        // TEXT column: only selected when asked for, never part of the default summary
+        SUMMARY_FIELDS.put("description", "i.description");
+    }
+
     public Page<Initiative> getAllInitiatives(Pageable pageable) {
         return initiativeRepository.findAll(pageable);
     }
@@ -40,20 +92,77 @@ public class InitiativeService {
         return initiativeRepository.findBySite(site, pageable);
     }
 
-    public Page<Initiative> searchInitiatives(String status, String site, String title, Pageable pageable) {
-        if (status != null && site != null && title != null) {
-            return initiativeRepository.findByStatusAndSiteAndTitleContaining(status, site, title, pageable);
-        } else if (title != null) {
-            return initiativeRepository.findByTitleContaining(title, pageable);
-        } else if (status != null && site != null) {
-            return initiativeRepository.findByStatusAndSite(status, site, pageable);
-        } else if (status != null) {
-            return initiativeRepository.findByStatus(status, pageable);
-        } else if (site != null) {
-            return initiativeRepository.findBySite(site, pageable);
-        } else {
-            return initiativeRepository.findAll(pageable);
+    public Page<InitiativeSummary> searchInitiativeSummaries(String status, String site, String title, Pageable pageable) {
+        return initiativeRepository.findSummaries(status, site, title, pageable);
+    }
+
+    /**
+     * Sparse variant of the summary list for ?fields=. Only the requested columns are selected and
+     * users is only joined when a creator field is asked for.
+     */
+    public Page<Map<String, Object>> searchInitiativeFields(String status, String site, String title,
+                                                            List<String> fields, Pageable pageable) {
+        List<String> selected = new ArrayList<>();
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty() || selected.contains(name)) {
+                continue;
+            }
+            if (!SUMMARY_FIELDS.containsKey(name)) {
+                throw new RuntimeException("Unknown field: " + name);
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new RuntimeException("No fields requested");
         }
+
+        boolean joinCreator = selected.contains("createdByName") || selected.contains("createdByEmail");
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (int i = 0; i < selected.size(); i++) {
+            jpql.append(i > 0 ? ", " : "").append(SUMMARY_FIELDS.get(selected.get(i)));
+        }
+        jpql.append(" FROM Initiative i").append(joinCreator ? " LEFT JOIN i.createdBy u" : "").append(SUMMARY_FILTER);
+
+        String orderBy = "";
+        for (Sort.Order order : pageable.getSort()) {
+            String path = SUMMARY_FIELDS.get(order.getProperty());
+            if (path == null || (path.startsWith("u.") && !joinCreator)) {
+                throw new RuntimeException("Cannot sort by: " + order.getProperty());
+            }
+            orderBy += (orderBy.isEmpty() ? " ORDER BY " : ", ") + path + (order.isAscending() ? " ASC" : " DESC");
+        }
+        jpql.append(orderBy);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        bindSummaryFilter(query, status, site, title);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < selected.size(); i++) {
+                Object value = tuple.get(i);
+                row.put(selected.get(i), "currentStageName".equals(selected.get(i))
+                        ? InitiativeResponse.getStageName((Integer) value) : value);
+            }
+            content.add(row);
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(i) FROM Initiative i" + SUMMARY_FILTER, Long.class);
+            bindSummaryFilter(count, status, site, title);
+            return count.getSingleResult();
+        });
+    }
+
+    private void bindSummaryFilter(TypedQuery<?> query, String status, String site, String title) {
+        query.setParameter("status", status);
+        query.setParameter("site", site);
+        query.setParameter("title", title);
     }
 
     public Optional<Initiative> getInitiativeById(Long id) {
@@ -65,6 +174,25 @@ public class InitiativeService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        Initiative initiative = buildInitiative(request, user);
+        
+        // Generate initiative number
+        String initiativeNumber = generateInitiativeNumber(request.getSite(), request.getDiscipline());
+        initiative.setInitiativeNumber(initiativeNumber);
+
+        Initiative savedInitiative = initiativeRepository.save(initiative);
+
+        // Create initial workflow stages and transactions
+        createInitialWorkflowStages(savedInitiative);
+        workflowTransactionService.createInitialWorkflowTransactions(savedInitiative);
+
+        return savedInitiative;
+    }
+
+    /**
+     * Map a request onto a new, unsaved initiative. The initiative number is left for the caller to assign.
+     */
+    public Initiative buildInitiative(InitiativeRequest request, User user) {
         Initiative initiative = new Initiative(
                 request.getTitle(),
                 request.getDescription(),
@@ -91,18 +219,8 @@ public class InitiativeService {
         initiative.setConfidenceLevel(request.getConfidenceLevel());
         initiative.setEstimatedCapex(request.getEstimatedCapex());
         initiative.setBudgetType(request.getBudgetType());
-        
-        // Generate initiative number
-        String initiativeNumber = generateInitiativeNumber(request.getSite(), request.getDiscipline());
-        initiative.setInitiativeNumber(initiativeNumber);
 
-        Initiative savedInitiative = initiativeRepository.save(initiative);
-
-        // Create initial workflow stages and transactions
-        createInitialWorkflowStages(savedInitiative);
-        workflowTransactionService.createInitialWorkflowTransactions(savedInitiative);
-
-        return savedInitiative;
+        return initiative;
     }
 
     private void createInitialWorkflowStages(Initiative initiative) {
@@ -172,7 +290,7 @@ public class InitiativeService {
     }
 
     public void deleteInitiative(Long id) {
-        initiativeRepository.deleteById(id);
+        initiativeDeletionService.deleteInitiative(id);
     }
 
     public Long countByStatus(String status) {
@@ -184,22 +302,28 @@ public class InitiativeService {
     }
 
     private String generateInitiativeNumber(String site, String discipline) {
-        // Get current year (2-digit format)
+        // Get current year
         int currentYear = java.time.LocalDate.now().getYear();
-        String yearCode = String.format("%02d", currentYear % 100);
-        
-        // Map discipline to category code
-        String categoryCode = getDisciplineCategoryCode(discipline);
         
         // Get discipline-specific sequential number for the site
         Long disciplineCount = initiativeRepository.countBySiteAndDisciplineAndYear(site, discipline, currentYear);
-        String disciplineSequential = String.format("%02d", disciplineCount + 1);
         
         // Get overall site-specific initiative number
         Long siteCount = initiativeRepository.countBySiteAndYear(site, currentYear);
-        String overallSequential = String.format("%03d", siteCount + 1);
         
-        // Format: ZZZ/YY/XX/AB/123
+        return formatInitiativeNumber(site, discipline, currentYear, disciplineCount + 1, siteCount + 1);
+    }
+
+    /**
+     * Format an initiative number from already allocated sequence values. Format: ZZZ/YY/XX/AB/123
+     */
+    public String formatInitiativeNumber(String site, String discipline, int year,
+                                         long disciplineSequence, long siteSequence) {
+        String yearCode = String.format("%02d", year % 100);
+        String categoryCode = getDisciplineCategoryCode(discipline);
+        String disciplineSequential = String.format("%02d", disciplineSequence);
+        String overallSequential = String.format("%03d", siteSequence);
+
         return String.format("%s/%s/%s/%s/%s", 
                 site, yearCode, categoryCode, disciplineSequential, overallSequential);
     }
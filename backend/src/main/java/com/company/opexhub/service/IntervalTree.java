@@ -0,0 +1,164 @@
+package com.company.opexhub.service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed intervals of epoch days in a treap ordered by (start, id), each node carrying the largest
+ * end in its subtree. Insert and remove are O(log n) expected; an overlap query prunes every
+ * subtree that ends before the range or starts after it, so it costs O(log n + k). Not thread safe.
+ */
+class IntervalTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    void insert(long start, long end, long id, T value) {
+        root = insert(root, new Node<>(start, end, id, value));
+        size++;
+    }
+
+    /**
+     * Remove the interval added with this start and id; the start must be the one it was inserted with.
+     */
+    void remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        if (before == size) {
+            throw new IllegalStateException("Interval " + id + " not found at " + start);
+        }
+    }
+
+    /**
+     * Add to out every value whose interval shares at least one day with [from, to], by start.
+     */
+    void overlapping(long from, long to, List<T> out) {
+        overlapping(root, from, to, out);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> remove(Node<T> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp == 0) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else {
+            node.right = remove(node.right, start, id);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void overlapping(Node<T> node, long from, long to, List<T> out) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        overlapping(node.left, from, to, out);
+        if (node.start > to) {
+            // Everything to the right starts later still
+            return;
+        }
+        if (node.end >= from) {
+            out.add(node.value);
+        }
+        overlapping(node.right, from, to, out);
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private int compare(long start, long id, Node<T> node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private static class Node<T> {
+        private final long start;
+        private final long end;
+        private final long id;
+        private final T value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(long start, long end, long id, T value) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
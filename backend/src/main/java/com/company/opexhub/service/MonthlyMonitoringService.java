@@ -1,5 +1,6 @@
 package com.company.opexhub.service;
 
+import com.company.opexhub.dto.MonitoringBulkRequest;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.entity.MonthlyMonitoringEntry;
 import com.company.opexhub.repository.InitiativeRepository;
@@ -9,8 +10,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class MonthlyMonitoringService {
@@ -21,6 +29,9 @@ public class MonthlyMonitoringService {
     @Autowired
     private InitiativeRepository initiativeRepository;
 
+    @Autowired
+    private SavingsRollupService savingsRollupService;
+
     public List<MonthlyMonitoringEntry> getMonitoringEntriesByInitiative(Long initiativeId) {
         return monthlyMonitoringRepository.findByInitiative_IdOrderByMonitoringMonth(initiativeId);
     }
@@ -39,13 +50,129 @@ public class MonthlyMonitoringService {
                 .orElseThrow(() -> new RuntimeException("Initiative not found"));
         
         monitoringEntry.setInitiative(initiative);
-        return monthlyMonitoringRepository.save(monitoringEntry);
+        MonthlyMonitoringEntry savedEntry = monthlyMonitoringRepository.save(monitoringEntry);
+        savingsRollupService.record(null, savedEntry);
+        return savedEntry;
+    }
+
+    /**
+     * Upsert all KPI rows of one initiative for a month and return the month's full set of entries.
+     */
+    @Transactional
+    public List<MonthlyMonitoringEntry> upsertMonthEntries(Long initiativeId, YearMonth month,
+                                                           List<MonitoringBulkRequest.Row> rows) {
+        for (MonitoringBulkRequest.Row row : rows) {
+            row.setInitiativeId(initiativeId);
+        }
+        List<MonthlyMonitoringEntry> entries = upsertEntries(null, month, rows).get(initiativeId);
+        return entries != null ? entries : new ArrayList<>();
+    }
+
+    /**
+     * Upsert KPI rows for any number of initiatives of one site, keyed by initiative in the result.
+     */
+    @Transactional
+    public Map<Long, List<MonthlyMonitoringEntry>> upsertSiteMonthEntries(String site, YearMonth month,
+                                                                        List<MonitoringBulkRequest.Row> rows) {
+        for (MonitoringBulkRequest.Row row : rows) {
+            if (row.getInitiativeId() == null) {
+                throw new RuntimeException("initiativeId is required for every row");
+            }
+        }
+        return upsertEntries(site, month, rows);
+    }
+
+    /**
+     * Loads the initiatives and their existing entries for the month with one query each, applies the
+     * rows in memory and leaves the inserts and updates to a single batched flush.
+     */
+    private Map<Long, List<MonthlyMonitoringEntry>> upsertEntries(String site, YearMonth month,
+                                                                List<MonitoringBulkRequest.Row> rows) {
+        Set<Long> initiativeIds = new LinkedHashSet<>();
+        for (MonitoringBulkRequest.Row row : rows) {
+            initiativeIds.add(row.getInitiativeId());
+        }
+
+        Map<Long, Initiative> initiatives = new HashMap<>();
+        for (Initiative initiative : initiativeRepository.findAllById(initiativeIds)) {
+            initiatives.put(initiative.getId(), initiative);
+        }
+        for (Long initiativeId : initiativeIds) {
+            Initiative initiative = initiatives.get(initiativeId);
+            if (initiative == null) {
+                throw new RuntimeException("Initiative not found: " + initiativeId);
+            }
+            if (site != null && !site.equals(initiative.getSite())) {
+                throw new RuntimeException("Initiative " + initiativeId + " does not belong to site " + site);
+            }
+        }
+
+        Map<Long, List<MonthlyMonitoringEntry>> result = new LinkedHashMap<>();
+        Map<Long, MonthlyMonitoringEntry> byId = new HashMap<>();
+        Map<String, MonthlyMonitoringEntry> byKpi = new HashMap<>();
+        for (Long initiativeId : initiativeIds) {
+            result.put(initiativeId, new ArrayList<>());
+        }
+        for (MonthlyMonitoringEntry entry : monthlyMonitoringRepository.findByInitiativeIdInAndMonth(initiativeIds, month)) {
+            Long initiativeId = entry.getInitiative().getId();
+            result.get(initiativeId).add(entry);
+            byId.put(entry.getId(), entry);
+            byKpi.put(initiativeId + "|" + entry.getKpiDescription(), entry);
+        }
+
+        List<MonthlyMonitoringEntry> created = new ArrayList<>();
+        // New entries start unapproved, so only edits to existing ones can move the savings rollup
+        Map<MonthlyMonitoringEntry, SavingsRollupService.Snapshot> before = new IdentityHashMap<>();
+        for (MonitoringBulkRequest.Row row : rows) {
+            String kpiKey = row.getInitiativeId() + "|" + row.getKpiDescription();
+            MonthlyMonitoringEntry entry;
+            if (row.getId() != null) {
+                entry = byId.get(row.getId());
+                if (entry == null || !entry.getInitiative().getId().equals(row.getInitiativeId())) {
+                    throw new RuntimeException("Monitoring entry " + row.getId() + " not found for initiative "
+                            + row.getInitiativeId() + " in " + month);
+                }
+                byKpi.remove(row.getInitiativeId() + "|" + entry.getKpiDescription());
+            } else {
+                entry = byKpi.get(kpiKey);
+            }
+
+            if (entry == null) {
+                entry = new MonthlyMonitoringEntry(initiatives.get(row.getInitiativeId()), month,
+                        row.getKpiDescription(), row.getTargetValue(), row.getEnteredBy());
+                created.add(entry);
+                result.get(row.getInitiativeId()).add(entry);
+            } else {
+                if (!before.containsKey(entry)) {
+                    before.put(entry, savingsRollupService.capture(entry));
+                }
+                entry.setKpiDescription(row.getKpiDescription());
+                entry.setTargetValue(row.getTargetValue());
+                entry.setEnteredBy(row.getEnteredBy());
+            }
+            // The setters keep deviation and its percentage in step, so no separate pass is needed
+            entry.setAchievedValue(row.getAchievedValue());
+            entry.setRemarks(row.getRemarks());
+            if (row.getCategory() != null) {
+                entry.setCategory(row.getCategory());
+            }
+            byKpi.put(kpiKey, entry);
+        }
+
+        monthlyMonitoringRepository.saveAll(created);
+        // Write now so ids are assigned and constraint errors surface before the response is built
+        monthlyMonitoringRepository.flush();
+        for (Map.Entry<MonthlyMonitoringEntry, SavingsRollupService.Snapshot> change : before.entrySet()) {
+            savingsRollupService.record(change.getValue(), change.getKey());
+        }
+        return result;
     }
 
     @Transactional
     public MonthlyMonitoringEntry updateMonitoringEntry(Long id, MonthlyMonitoringEntry entryDetails) {
         MonthlyMonitoringEntry entry = monthlyMonitoringRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Monthly monitoring entry not found"));
+        SavingsRollupService.Snapshot before = savingsRollupService.capture(entry);
 
         entry.setKpiDescription(entryDetails.getKpiDescription());
         entry.setTargetValue(entryDetails.getTargetValue());
@@ -54,7 +181,9 @@ public class MonthlyMonitoringService {
         entry.setMonitoringMonth(entryDetails.getMonitoringMonth());
         entry.setCategory(entryDetails.getCategory());
         
-        return monthlyMonitoringRepository.save(entry);
+        MonthlyMonitoringEntry savedEntry = monthlyMonitoringRepository.save(entry);
+        savingsRollupService.record(before, savedEntry);
+        return savedEntry;
     }
 
     @Transactional
@@ -70,14 +199,22 @@ public class MonthlyMonitoringService {
     public MonthlyMonitoringEntry updateFAApproval(Long id, Boolean faApproval, String faComments) {
         MonthlyMonitoringEntry entry = monthlyMonitoringRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Monthly monitoring entry not found"));
+        SavingsRollupService.Snapshot before = savingsRollupService.capture(entry);
 
         entry.setFaApproval(faApproval);
         entry.setFaComments(faComments);
-        return monthlyMonitoringRepository.save(entry);
+        MonthlyMonitoringEntry savedEntry = monthlyMonitoringRepository.save(entry);
+        savingsRollupService.record(before, savedEntry);
+        return savedEntry;
     }
 
+    @Transactional
     public void deleteMonitoringEntry(Long id) {
-        monthlyMonitoringRepository.deleteById(id);
+        MonthlyMonitoringEntry entry = monthlyMonitoringRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Monthly monitoring entry not found"));
+        SavingsRollupService.Snapshot before = savingsRollupService.capture(entry);
+        monthlyMonitoringRepository.delete(entry);
+        savingsRollupService.record(before, null);
     }
 
     public List<MonthlyMonitoringEntry> getPendingFAApprovalsForInitiative(Long initiativeId) {
@@ -0,0 +1,45 @@
+package com.company.opexhub.service;
+
+import java.util.Map;
+
+/**
+ * Application event for a push notification. It reaches subscribers only once the publishing
+ * transaction has committed. A notification goes to one user (targetEmail), to everyone holding a
+ * role at a site (targetRole + site), or to everyone at a site (site only).
+ */
+public class NotificationEvent {
+
+    public static final String INBOX_ADDED = "inbox-added";
+    public static final String INBOX_REMOVED = "inbox-removed";
+    public static final String INITIATIVE_STATUS = "initiative-status";
+
+    private final String name;
+    private final String targetEmail;
+    private final String targetRole;
+    private final String site;
+    private final Map<String, Object> data;
+
+    public NotificationEvent(String name, String targetEmail, String targetRole, String site, Map<String, Object> data) {
+        this.name = name;
+        this.targetEmail = targetEmail;
+        this.targetRole = targetRole;
+        this.site = site;
+        this.data = data;
+    }
+
+    public boolean isFor(String email, String role, String userSite) {
+        if (targetEmail != null) {
+            return targetEmail.equalsIgnoreCase(email);
+        }
+        if (site != null && !site.equals(userSite)) {
+            return false;
+        }
+        return targetRole == null || targetRole.equals(role);
+    }
+
+    public String getName() { return name; }
+    public String getTargetEmail() { return targetEmail; }
+    public String getTargetRole() { return targetRole; }
+    public String getSite() { return site; }
+    public Map<String, Object> getData() { return data; }
+}
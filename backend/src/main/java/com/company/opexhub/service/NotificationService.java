@@ -0,0 +1,213 @@
+package com.company.opexhub.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.company.opexhub.security.UserPrincipal;
+
+/**
+ * Server-Sent Events push for workflow inbox and initiative changes.
+ *
+ * Idle connections are parked as async requests and hold no thread. All sends, replays and
+ * heartbeats run on one dispatcher thread, so subscribers see events in order and a slow
+ * client never blocks the request that committed the change.
+ */
+@Service
+public class NotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    @Value("${notifications.sse.max-connections:5000}")
+    private int maxConnections;
+
+    @Value("${notifications.sse.timeout-millis:1800000}")
+    private long timeoutMillis;
+
+    @Value("${notifications.sse.replay-size:1000}")
+    private int replaySize;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Touched only on the dispatcher thread
+    private final Deque<SentEvent> replayBuffer = new ArrayDeque<>();
+    private long lastEventId = 0;
+
+    public SseEmitter subscribe(UserPrincipal user, String lastEventIdHeader) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open notification streams");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, user.getUsername(), user.getRole(), user.getSite());
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        Long resumeAfter = parseEventId(lastEventIdHeader);
+        dispatcher.execute(() -> {
+            if (resumeAfter != null) {
+                replay(subscriber, resumeAfter);
+            }
+            if (!subscriber.closed) {
+                subscribers.add(subscriber);
+            }
+        });
+        return emitter;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(NotificationEvent event) {
+        dispatcher.execute(() -> {
+            SentEvent sent = new SentEvent(++lastEventId, event);
+            replayBuffer.addLast(sent);
+            if (replayBuffer.size() > replaySize) {
+                replayBuffer.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (event.isFor(subscriber.email, subscriber.role, subscriber.site)) {
+                    send(subscriber, sent);
+                }
+            }
+        });
+    }
+
+    /**
+     * Comment line on every open stream so proxies keep idle connections open and dead ones
+     * surface as send errors.
+     */
+    @Scheduled(fixedDelayString = "${notifications.sse.heartbeat-millis:25000}")
+    public void sendHeartbeats() {
+        dispatcher.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void replay(Subscriber subscriber, long resumeAfter) {
+        SentEvent oldest = replayBuffer.peekFirst();
+        if ((oldest != null && oldest.id > resumeAfter + 1) || resumeAfter > lastEventId) {
+            // Missed events have already left the buffer (or came from another node): the client refetches
+            try {
+                subscriber.emitter.send(SseEmitter.event().id(String.valueOf(lastEventId)).name("resync").data(""));
+            } catch (IOException | IllegalStateException e) {
+                drop(subscriber);
+            }
+            return;
+        }
+        for (SentEvent sent : replayBuffer) {
+            if (sent.id > resumeAfter
+                    && sent.event.isFor(subscriber.email, subscriber.role, subscriber.site)) {
+                send(subscriber, sent);
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber, SentEvent sent) {
+        try {
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(String.valueOf(sent.id))
+                    .name(sent.event.getName())
+                    .data(sent.event.getData()));
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.emitter.completeWithError(new IOException("Notification stream closed"));
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return false;
+            }
+            subscriber.closed = true;
+        }
+        connectionCount.decrementAndGet();
+        return true;
+    }
+
+    private Long parseEventId(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring malformed Last-Event-ID {}", value);
+            return null;
+        }
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final String email;
+        private final String role;
+        private final String site;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, String email, String role, String site) {
+            this.emitter = emitter;
+            this.email = email;
+            this.role = role;
+            this.site = site;
+        }
+    }
+
+    private static class SentEvent {
+        private final long id;
+        private final NotificationEvent event;
+
+        SentEvent(long id, NotificationEvent event) {
+            this.id = id;
+            this.event = event;
+        }
+    }
+}
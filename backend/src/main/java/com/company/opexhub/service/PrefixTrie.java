@@ -0,0 +1,88 @@
+package com.company.opexhub.service;
+
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * String keys mapped to ids, with each node's children in character order so the ids under a
+ * prefix come out sorted by key. Add and remove cost O(key length); a prefix walk costs the prefix
+ * length plus one step per node visited, and stops as soon as the visitor has had enough. Empty
+ * branches are pruned on removal. Not thread safe.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    void add(String key, Long id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        if (node.ids.add(id)) {
+            size++;
+        }
+    }
+
+    void remove(String key, Long id) {
+        remove(root, key, 0, id);
+    }
+
+    /**
+     * Pass each id with a key starting with prefix to visitor, in key order, until it returns false.
+     * An id stored under several matching keys is passed once per key.
+     */
+    void visit(String prefix, Predicate<Long> visitor) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node != null) {
+            visit(node, visitor);
+        }
+    }
+
+    /**
+     * Number of (key, id) pairs.
+     */
+    int size() {
+        return size;
+    }
+
+    // Returns whether the node is left empty, so the parent can drop it
+    private boolean remove(Node node, String key, int depth, Long id) {
+        if (depth == key.length()) {
+            if (node.ids.remove(id)) {
+                size--;
+            }
+        } else {
+            Character c = key.charAt(depth);
+            Node child = node.children.get(c);
+            if (child != null && remove(child, key, depth + 1, id)) {
+                node.children.remove(c);
+            }
+        }
+        return node.ids.isEmpty() && node.children.isEmpty();
+    }
+
+    private boolean visit(Node node, Predicate<Long> visitor) {
+        for (Long id : node.ids) {
+            if (!visitor.test(id)) {
+                return false;
+            }
+        }
+        for (Node child : node.children.values()) {
+            if (!visit(child, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final Set<Long> ids = new TreeSet<>();
+    }
+}
@@ -192,8 +192,8 @@ public class ReportsService {
             }
             
             // Annualized Value (Expected Savings if no actual savings) (Column L)
-            if (initiative.getActualSavings() != null) {
-                dataRow.createCell(11).setCellValue(initiative.getActualSavings().doubleValue());
+            if (initiative.getAnnualizedSavings() != null) {
+                dataRow.createCell(11).setCellValue(initiative.getAnnualizedSavings().doubleValue());
             } else if (initiative.getExpectedSavings() != null) {
                 dataRow.createCell(11).setCellValue(initiative.getExpectedSavings().doubleValue());
             }
@@ -0,0 +1,187 @@
+package com.company.opexhub.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+
+/**
+ * Keeps Initiative.actualSavings equal to the sum of its F&A-approved achieved values, and
+ * annualizedSavings at their monthly average times 12. Each monitoring change is applied as a delta
+ * in the caller's transaction, under a row lock on the initiative so concurrent approvals for the
+ * same initiative queue up instead of losing updates. A nightly job re-sums everything and repairs
+ * any initiative that has drifted.
+ */
+@Service
+public class SavingsRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavingsRollupService.class);
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * The parts of an entry the rollup depends on, taken before it is changed.
+     */
+    public Snapshot capture(MonthlyMonitoringEntry entry) {
+        return new Snapshot(entry);
+    }
+
+    /**
+     * Apply the difference between an entry's earlier state and its current one. Pass a null
+     * before for a new entry and a null after for a deleted one.
+     */
+    @Transactional
+    public void record(Snapshot before, MonthlyMonitoringEntry after) {
+        Snapshot now = after != null ? new Snapshot(after) : null;
+        BigDecimal delta = contribution(now).subtract(contribution(before));
+        boolean sameApprovedMonth = before != null && now != null && before.approved && now.approved
+                && before.month.equals(now.month);
+        boolean monthsMayChange = !sameApprovedMonth
+                && ((before != null && before.approved) || (now != null && now.approved));
+        if (delta.signum() == 0 && !monthsMayChange) {
+            return;
+        }
+
+        Long initiativeId = now != null ? now.initiativeId : before.initiativeId;
+        // Locked before the month checks so two approvals in the same new month cannot both count it
+        Initiative initiative = lockForUpdate(initiativeId);
+
+        int monthDelta = 0;
+        if (monthsMayChange) {
+            if (before != null && before.approved && !hasOtherApprovedEntry(before)) {
+                monthDelta--;
+            }
+            if (now != null && now.approved && !hasOtherApprovedEntry(now)) {
+                monthDelta++;
+            }
+        }
+
+        BigDecimal actual = initiative.getActualSavings() != null ? initiative.getActualSavings() : BigDecimal.ZERO;
+        int months = initiative.getSavingsMonths() != null ? initiative.getSavingsMonths() : 0;
+        setRollup(initiative, actual.add(delta), months + monthDelta);
+    }
+
+    /**
+     * Re-sum the approved entries of every initiative and repair those whose stored rollup differs.
+     */
+    @Scheduled(cron = "${savings.reconcile-cron:0 30 2 * * *}")
+    @Transactional
+    public int reconcile() {
+        Map<Long, Object[]> expected = new HashMap<>();
+        for (Object[] row : monthlyMonitoringEntryRepository.sumApprovedByInitiative()) {
+            expected.put((Long) row[0], row);
+        }
+
+        // Initiatives with a stored rollup, plus any with approved entries but no rollup yet
+        Set<Long> drifted = new HashSet<>(expected.keySet());
+        Set<Long> checked = new HashSet<>(expected.keySet());
+        for (Object[] row : initiativeRepository.findSavingsRollups()) {
+            Long initiativeId = (Long) row[0];
+            checked.add(initiativeId);
+            if (matches((BigDecimal) row[1], (Integer) row[2], expected.get(initiativeId))) {
+                drifted.remove(initiativeId);
+            } else {
+                drifted.add(initiativeId);
+            }
+        }
+
+        for (Long initiativeId : drifted) {
+            Initiative initiative = initiativeRepository.findByIdForUpdate(initiativeId).orElse(null);
+            if (initiative == null) {
+                continue;
+            }
+            // Summed again under the lock, as deltas may have committed since the bulk query
+            Object[] sums = monthlyMonitoringEntryRepository.sumApprovedForInitiative(initiativeId).get(0);
+            BigDecimal actual = sums[0] != null ? (BigDecimal) sums[0] : BigDecimal.ZERO;
+            int months = ((Long) sums[1]).intValue();
+            logger.warn("Savings rollup drift on initiative {}: stored {} over {} months, actual {} over {} months",
+                    initiativeId, initiative.getActualSavings(), initiative.getSavingsMonths(), actual, months);
+            setRollup(initiative, actual, months);
+        }
+        logger.info("Savings rollup reconciled: {} initiatives checked, {} repaired", checked.size(), drifted.size());
+        return drifted.size();
+    }
+
+    /**
+     * Lock the initiative's row and make sure its rollup was read under that lock. The caller may
+     * have loaded the initiative earlier in the transaction; a locking query would then hand back
+     * that instance with the values read before the lock, and the delta would overwrite a concurrent
+     * one. Once locked here, later calls in the transaction keep the in-memory rollup.
+     */
+    private Initiative lockForUpdate(Long initiativeId) {
+        Initiative initiative = entityManager.find(Initiative.class, initiativeId);
+        if (initiative == null) {
+            throw new RuntimeException("Initiative not found");
+        }
+        if (entityManager.getLockMode(initiative) != LockModeType.PESSIMISTIC_WRITE) {
+            entityManager.refresh(initiative, LockModeType.PESSIMISTIC_WRITE);
+        }
+        return initiative;
+    }
+
+    private boolean matches(BigDecimal storedActual, Integer storedMonths, Object[] sums) {
+        BigDecimal actual = sums != null && sums[1] != null ? (BigDecimal) sums[1] : BigDecimal.ZERO;
+        int months = sums != null ? ((Long) sums[2]).intValue() : 0;
+        BigDecimal stored = storedActual != null ? storedActual : BigDecimal.ZERO;
+        return stored.compareTo(actual) == 0 && Objects.equals(storedMonths != null ? storedMonths : 0, months);
+    }
+
+    private boolean hasOtherApprovedEntry(Snapshot entry) {
+        return monthlyMonitoringEntryRepository.countOtherApprovedInMonth(entry.initiativeId, entry.month, entry.entryId) > 0;
+    }
+
+    private void setRollup(Initiative initiative, BigDecimal actual, int months) {
+        initiative.setActualSavings(actual);
+        initiative.setSavingsMonths(months);
+        initiative.setAnnualizedSavings(months > 0
+                ? actual.multiply(BigDecimal.valueOf(12)).divide(BigDecimal.valueOf(months), 2, RoundingMode.HALF_UP)
+                : null);
+    }
+
+    private BigDecimal contribution(Snapshot snapshot) {
+        return snapshot != null && snapshot.approved && snapshot.achieved != null ? snapshot.achieved : BigDecimal.ZERO;
+    }
+
+    public static class Snapshot {
+        private final Long entryId;
+        private final Long initiativeId;
+        private final YearMonth month;
+        private final boolean approved;
+        private final BigDecimal achieved;
+
+        Snapshot(MonthlyMonitoringEntry entry) {
+            this.entryId = entry.getId();
+            this.initiativeId = entry.getInitiative().getId();
+            this.month = entry.getMonitoringMonth();
+            this.approved = Boolean.TRUE.equals(entry.getFaApproval());
+            this.achieved = entry.getAchievedValue();
+        }
+    }
+}
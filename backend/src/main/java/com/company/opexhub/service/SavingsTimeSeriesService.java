@@ -0,0 +1,199 @@
+package com.company.opexhub.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.company.opexhub.dto.SavingsTimeSeries;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Monthly target vs. achieved savings with cumulative, rolling and fiscal-year-to-date sums.
+ * Monitoring totals are summed per initiative and month in one query and held as arrays of
+ * paise indexed by month, cached per fiscal year until any monitoring entry changes. Only the
+ * most recently used fiscal years are kept, as callers pick the year.
+ */
+@Service
+public class SavingsTimeSeriesService {
+
+    public static final String BY_INITIATIVE = "initiative";
+    public static final String BY_SITE = "site";
+    public static final String BY_DISCIPLINE = "discipline";
+
+    // The 11 months before the fiscal year feed the rolling 12-month sums of its first months
+    private static final int LEAD_MONTHS = 11;
+    private static final int WINDOW = LEAD_MONTHS + 12;
+
+    @Autowired
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${savings.fiscal-year-start-month:4}")
+    private int fiscalYearStartMonth;
+
+    @Value("${savings.cached-fiscal-years:8}")
+    private long cachedFiscalYears;
+
+    private Cache<Integer, FiscalYearData> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(cachedFiscalYears)
+                .build();
+    }
+
+    /**
+     * The fiscal year a month falls in, named after the calendar year it starts in.
+     */
+    public int fiscalYearOf(YearMonth month) {
+        return month.getMonthValue() >= fiscalYearStartMonth ? month.getYear() : month.getYear() - 1;
+    }
+
+    public SavingsTimeSeries getTimeSeries(Integer fiscalYear, String groupBy, String site) {
+        int year = fiscalYear != null ? fiscalYear : fiscalYearOf(YearMonth.now());
+        String by = groupBy != null ? groupBy : BY_SITE;
+        if (!BY_INITIATIVE.equals(by) && !BY_SITE.equals(by) && !BY_DISCIPLINE.equals(by)) {
+            throw new RuntimeException("Unsupported groupBy: " + groupBy);
+        }
+
+        FiscalYearData data = load(year);
+
+        // Initiative totals summed into their groups; the tree map keeps series in a stable order
+        Map<String, MonthlyTotals> groups = new TreeMap<>();
+        for (Map.Entry<Long, MonthlyTotals> entry : data.byInitiative.entrySet()) {
+            MonthlyTotals totals = entry.getValue();
+            if (site != null && !site.equals(totals.site)) {
+                continue;
+            }
+            String key = BY_INITIATIVE.equals(by) ? String.valueOf(entry.getKey())
+                    : BY_SITE.equals(by) ? totals.site : totals.discipline;
+            groups.computeIfAbsent(key != null ? key : "Unknown", k -> new MonthlyTotals(null, null)).add(totals);
+        }
+
+        SavingsTimeSeries result = new SavingsTimeSeries(year, by);
+        YearMonth start = YearMonth.of(year, fiscalYearStartMonth);
+        for (int i = 0; i < 12; i++) {
+            result.getMonths().add(start.plusMonths(i));
+        }
+        for (Map.Entry<String, MonthlyTotals> group : groups.entrySet()) {
+            SavingsTimeSeries.Series series = new SavingsTimeSeries.Series(group.getKey());
+            fill(group.getValue().target, group.getValue().priorTarget,
+                    series.getTarget(), series.getCumulativeTarget(), series.getRolling3Target(),
+                    series.getRolling12Target(), series.getFytdTarget());
+            fill(group.getValue().achieved, group.getValue().priorAchieved,
+                    series.getAchieved(), series.getCumulativeAchieved(), series.getRolling3Achieved(),
+                    series.getRolling12Achieved(), series.getFytdAchieved());
+            result.getSeries().add(series);
+        }
+        return result;
+    }
+
+    private void fill(long[] window, long prior, List<BigDecimal> monthly, List<BigDecimal> cumulative,
+                      List<BigDecimal> rolling3, List<BigDecimal> rolling12, List<BigDecimal> fytd) {
+        // prefix[k] is the sum of window[0..k-1], so any run of months is one subtraction
+        long[] prefix = new long[WINDOW + 1];
+        for (int k = 0; k < WINDOW; k++) {
+            prefix[k + 1] = prefix[k] + window[k];
+        }
+        for (int w = LEAD_MONTHS; w < WINDOW; w++) {
+            monthly.add(toAmount(window[w]));
+            cumulative.add(toAmount(prior + prefix[w + 1]));
+            rolling3.add(toAmount(prefix[w + 1] - prefix[w - 2]));
+            rolling12.add(toAmount(prefix[w + 1] - prefix[w - 11]));
+            fytd.add(toAmount(prefix[w + 1] - prefix[LEAD_MONTHS]));
+        }
+    }
+
+    private FiscalYearData load(int year) {
+        // Read the version first: a write landing during the rebuild only causes one more rebuild
+        String version = dataVersionService.getMonitoringEntriesVersion();
+        FiscalYearData cached = cache.getIfPresent(year);
+        if (cached != null && cached.version.equals(version)) {
+            return cached;
+        }
+
+        YearMonth windowStart = YearMonth.of(year, fiscalYearStartMonth).minusMonths(LEAD_MONTHS);
+        YearMonth windowEnd = windowStart.plusMonths(WINDOW - 1);
+        Map<Long, MonthlyTotals> byInitiative = new HashMap<>();
+        // Months are stored serialized, so the window is applied here rather than in SQL
+        for (Object[] row : monthlyMonitoringEntryRepository.sumByInitiativeAndMonth()) {
+            YearMonth month = (YearMonth) row[3];
+            if (month == null || month.isAfter(windowEnd)) {
+                continue;
+            }
+            MonthlyTotals totals = byInitiative.computeIfAbsent((Long) row[0],
+                    id -> new MonthlyTotals((String) row[1], (String) row[2]));
+            long target = toPaise((BigDecimal) row[4]);
+            long achieved = toPaise((BigDecimal) row[5]);
+            if (month.isBefore(windowStart)) {
+                totals.priorTarget += target;
+                totals.priorAchieved += achieved;
+            } else {
+                int index = (int) windowStart.until(month, ChronoUnit.MONTHS);
+                totals.target[index] += target;
+                totals.achieved[index] += achieved;
+            }
+        }
+
+        FiscalYearData data = new FiscalYearData(version, byInitiative);
+        cache.put(year, data);
+        return data;
+    }
+
+    private long toPaise(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact() : 0;
+    }
+
+    private BigDecimal toAmount(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+
+    private static class FiscalYearData {
+        private final String version;
+        private final Map<Long, MonthlyTotals> byInitiative;
+
+        FiscalYearData(String version, Map<Long, MonthlyTotals> byInitiative) {
+            this.version = version;
+            this.byInitiative = byInitiative;
+        }
+    }
+
+    private static class MonthlyTotals {
+        private final String site;
+        private final String discipline;
+        private final long[] target = new long[WINDOW];
+        private final long[] achieved = new long[WINDOW];
+        private long priorTarget;
+        private long priorAchieved;
+
+        MonthlyTotals(String site, String discipline) {
+            this.site = site;
+            this.discipline = discipline;
+        }
+
+        void add(MonthlyTotals other) {
+            for (int i = 0; i < WINDOW; i++) {
+                target[i] += other.target[i];
+                achieved[i] += other.achieved[i];
+            }
+            priorTarget += other.priorTarget;
+            priorAchieved += other.priorAchieved;
+        }
+    }
+}
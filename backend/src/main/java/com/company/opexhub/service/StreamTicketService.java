@@ -0,0 +1,55 @@
+package com.company.opexhub.service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tickets for opening the notification stream. EventSource cannot send an Authorization header, and
+ * a session JWT in the query string would be written to access logs, proxy logs and browser history.
+ * A ticket is random, expires after notifications.sse.ticket-ttl-seconds and opens one stream only.
+ */
+@Service
+public class StreamTicketService {
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${notifications.sse.ticket-ttl-seconds:30}")
+    private long ticketTtlSeconds;
+
+    @Value("${notifications.sse.max-tickets:10000}")
+    private long maxTickets;
+
+    private Cache<String, Long> tickets;
+
+    @PostConstruct
+    public void init() {
+        tickets = Caffeine.newBuilder()
+                .expireAfterWrite(ticketTtlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maxTickets)
+                .build();
+    }
+
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, userId);
+        return ticket;
+    }
+
+    /**
+     * The user a ticket was issued to, or null if it is unknown, expired or already used.
+     */
+    public Long redeem(String ticket) {
+        return ticket == null ? null : tickets.asMap().remove(ticket);
+    }
+}
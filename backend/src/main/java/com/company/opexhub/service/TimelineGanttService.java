@@ -0,0 +1,120 @@
+package com.company.opexhub.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.repository.TimelineEntryRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Site-wide Gantt data: every timeline entry and task overlapping a date window, grouped by
+ * initiative. Rows are read from one query as a stream and written straight to the response with
+ * Jackson's generator, so neither entities nor the JSON tree are held in memory for the whole site.
+ */
+@Service
+public class TimelineGanttService {
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Write the Gantt in the ApiResponse envelope. Only initiatives in allowedInitiativeIds are
+     * included, unless it is null. Returns the number of initiatives written.
+     */
+    @Transactional(readOnly = true)
+    public int writeGantt(String site, LocalDate from, LocalDate to, String status, String discipline,
+                          Set<Long> allowedInitiativeIds, OutputStream out) throws IOException {
+        int initiatives = 0;
+        try (Stream<Object[]> rows = timelineEntryRepository.streamGanttRows(site, from, to, status, discipline);
+             JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeBooleanField("success", true);
+            json.writeStringField("message", "Gantt retrieved successfully");
+            json.writeObjectFieldStart("data");
+            json.writeStringField("site", site);
+            json.writeStringField("from", from.toString());
+            json.writeStringField("to", to.toString());
+            json.writeArrayFieldStart("initiatives");
+
+            Long current = null;
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                Long initiativeId = ((Number) row[0]).longValue();
+                if (allowedInitiativeIds != null && !allowedInitiativeIds.contains(initiativeId)) {
+                    continue;
+                }
+                // Rows arrive ordered by initiative, so each one's items are contiguous
+                if (!initiativeId.equals(current)) {
+                    if (current != null) {
+                        json.writeEndArray();
+                        json.writeEndObject();
+                    }
+                    writeInitiative(json, initiativeId, row);
+                    json.writeArrayFieldStart("items");
+                    current = initiativeId;
+                    initiatives++;
+                }
+                writeItem(json, row);
+            }
+            if (current != null) {
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+
+            json.writeEndArray();
+            json.writeNumberField("initiativeCount", initiatives);
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+        return initiatives;
+    }
+
+    private void writeInitiative(JsonGenerator json, Long initiativeId, Object[] row) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", initiativeId);
+        json.writeStringField("initiativeNumber", (String) row[1]);
+        json.writeStringField("title", (String) row[2]);
+        json.writeStringField("status", (String) row[3]);
+        json.writeStringField("discipline", (String) row[4]);
+    }
+
+    private void writeItem(JsonGenerator json, Object[] row) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", (String) row[5]);
+        json.writeNumberField("id", ((Number) row[6]).longValue());
+        json.writeStringField("name", (String) row[7]);
+        writeDate(json, "startDate", row[8]);
+        writeDate(json, "endDate", row[9]);
+        writeDate(json, "actualStartDate", row[10]);
+        writeDate(json, "actualEndDate", row[11]);
+        json.writeStringField("status", (String) row[12]);
+        json.writeStringField("responsible", (String) row[13]);
+        if (row[14] != null) {
+            json.writeNumberField("progressPercentage", ((Number) row[14]).intValue());
+        }
+        json.writeEndObject();
+    }
+
+    private void writeDate(JsonGenerator json, String field, Object value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else if (value instanceof java.sql.Date) {
+            json.writeStringField(field, ((java.sql.Date) value).toLocalDate().toString());
+        } else {
+            json.writeStringField(field, value.toString());
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.company.opexhub.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.dto.TimelineInterval;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.TimelineEntryRepository;
+import com.company.opexhub.repository.TimelineTaskRepository;
+
+/**
+ * In-memory interval trees over timeline task (start to end date) and timeline entry (planned
+ * start to planned end) dates, for "what is running on this day" and "what overlaps this range"
+ * questions by site and responsible person. Every interval sits in up to four trees (all, its
+ * site, its person, site and person) so each filter combination is a single tree walk. Built at
+ * startup and kept current by TimelineIntervalListener after each commit.
+ */
+@Service
+public class TimelineIntervalIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineIntervalIndex.class);
+
+    private static final String ALL = "";
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private TimelineTaskRepository timelineTaskRepository;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    private Map<Long, String> initiativeSites = new HashMap<>();
+    private Intervals tasks = new Intervals();
+    private Intervals entries = new Intervals();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Map<Long, String> sites = new HashMap<>();
+        for (Object[] row : initiativeRepository.findSites()) {
+            sites.put((Long) row[0], (String) row[1]);
+        }
+        initiativeSites = sites;
+        tasks = load(TimelineInterval.TASK, timelineTaskRepository.findIntervals());
+        entries = load(TimelineInterval.ENTRY, timelineEntryRepository.findIntervals());
+        logger.debug("Timeline interval index rebuilt: {} tasks, {} entries", tasks.byId.size(), entries.byId.size());
+    }
+
+    /**
+     * Add or replace an interval; its site is taken from its initiative.
+     */
+    public synchronized void put(TimelineInterval interval) {
+        interval.setSite(initiativeSites.get(interval.getInitiativeId()));
+        Intervals intervals = intervalsOf(interval.getType());
+        intervals.remove(interval.getId());
+        intervals.add(interval);
+    }
+
+    public synchronized void remove(String type, Long id) {
+        intervalsOf(type).remove(id);
+    }
+
+    /**
+     * Record an initiative's site, moving its intervals to the new site's trees if it changed.
+     */
+    public synchronized void setInitiativeSite(Long initiativeId, String site) {
+        boolean known = initiativeSites.containsKey(initiativeId);
+        String previous = initiativeSites.put(initiativeId, site);
+        if (!known || Objects.equals(previous, site)) {
+            return;
+        }
+        // Site changes are rare, so a scan beats keeping a per-initiative list up to date
+        for (Intervals intervals : new Intervals[] {tasks, entries}) {
+            for (TimelineInterval interval : intervals.ofInitiatives(Collections.singleton(initiativeId))) {
+                intervals.remove(interval.getId());
+                interval.setSite(site);
+                intervals.add(interval);
+            }
+        }
+    }
+
+    public synchronized void removeInitiatives(Collection<Long> initiativeIds) {
+        Set<Long> ids = new HashSet<>(initiativeIds);
+        for (Intervals intervals : new Intervals[] {tasks, entries}) {
+            for (TimelineInterval interval : intervals.ofInitiatives(ids)) {
+                intervals.remove(interval.getId());
+            }
+        }
+        initiativeSites.keySet().removeAll(ids);
+    }
+
+    /**
+     * Intervals of one type overlapping [from, to], ordered by start; site and responsible are optional filters.
+     */
+    public synchronized List<TimelineInterval> findOverlapping(String type, LocalDate from, LocalDate to,
+                                                               String site, String responsible) {
+        if (to.isBefore(from)) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+        List<TimelineInterval> result = new ArrayList<>();
+        IntervalTree<TimelineInterval> tree = intervalsOf(type).trees.get(key(site, responsible));
+        if (tree != null) {
+            tree.overlapping(from.toEpochDay(), to.toEpochDay(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Tasks and entries overlapping [from, to] grouped by responsible person.
+     */
+    public synchronized Map<String, List<TimelineInterval>> findWorkload(LocalDate from, LocalDate to, String site) {
+        Map<String, List<TimelineInterval>> workload = new TreeMap<>();
+        List<TimelineInterval> overlapping = findOverlapping(TimelineInterval.TASK, from, to, site, null);
+        overlapping.addAll(findOverlapping(TimelineInterval.ENTRY, from, to, site, null));
+        for (TimelineInterval interval : overlapping) {
+            String person = interval.getResponsible() != null ? interval.getResponsible() : "Unassigned";
+            workload.computeIfAbsent(person, p -> new ArrayList<>()).add(interval);
+        }
+        return workload;
+    }
+
+    private Intervals load(String type, List<Object[]> rows) {
+        Intervals intervals = new Intervals();
+        for (Object[] row : rows) {
+            TimelineInterval interval = new TimelineInterval(type, (Long) row[0], (Long) row[1], (String) row[2],
+                    (String) row[3], (LocalDate) row[4], (LocalDate) row[5]);
+            interval.setSite(initiativeSites.get(interval.getInitiativeId()));
+            intervals.add(interval);
+        }
+        return intervals;
+    }
+
+    private Intervals intervalsOf(String type) {
+        if (TimelineInterval.TASK.equals(type)) {
+            return tasks;
+        }
+        if (TimelineInterval.ENTRY.equals(type)) {
+            return entries;
+        }
+        throw new RuntimeException("Unsupported interval type: " + type);
+    }
+
+    private static String key(String site, String responsible) {
+        if (site == null) {
+            return responsible == null ? ALL : "p:" + responsible;
+        }
+        return responsible == null ? "s:" + site : "s:" + site + "|p:" + responsible;
+    }
+
+    private static class Intervals {
+        private final Map<String, IntervalTree<TimelineInterval>> trees = new HashMap<>();
+        private final Map<Long, TimelineInterval> byId = new HashMap<>();
+
+        void add(TimelineInterval interval) {
+            if (interval.getStartDate() == null && interval.getEndDate() == null) {
+                return;
+            }
+            byId.put(interval.getId(), interval);
+            for (String key : keys(interval)) {
+                trees.computeIfAbsent(key, k -> new IntervalTree<>())
+                        .insert(start(interval), end(interval), interval.getId(), interval);
+            }
+        }
+
+        void remove(Long id) {
+            TimelineInterval interval = byId.remove(id);
+            if (interval == null) {
+                return;
+            }
+            for (String key : keys(interval)) {
+                IntervalTree<TimelineInterval> tree = trees.get(key);
+                tree.remove(start(interval), id);
+                if (tree.size() == 0) {
+                    trees.remove(key);
+                }
+            }
+        }
+
+        List<TimelineInterval> ofInitiatives(Set<Long> initiativeIds) {
+            List<TimelineInterval> result = new ArrayList<>();
+            for (TimelineInterval interval : byId.values()) {
+                if (initiativeIds.contains(interval.getInitiativeId())) {
+                    result.add(interval);
+                }
+            }
+            return result;
+        }
+
+        private List<String> keys(TimelineInterval interval) {
+            List<String> keys = new ArrayList<>(4);
+            keys.add(ALL);
+            if (interval.getSite() != null) {
+                keys.add(key(interval.getSite(), null));
+            }
+            if (interval.getResponsible() != null) {
+                keys.add(key(null, interval.getResponsible()));
+            }
+            if (interval.getSite() != null && interval.getResponsible() != null) {
+                keys.add(key(interval.getSite(), interval.getResponsible()));
+            }
+            return keys;
+        }
+
+        // A task with only one date is indexed as that single day; reversed dates are read as a range
+        private long start(TimelineInterval interval) {
+            long start = interval.getStartDate() != null ? interval.getStartDate().toEpochDay() : end(interval);
+            return interval.getEndDate() != null ? Math.min(start, interval.getEndDate().toEpochDay()) : start;
+        }
+
+        private long end(TimelineInterval interval) {
+            if (interval.getEndDate() == null) {
+                return interval.getStartDate().toEpochDay();
+            }
+            long end = interval.getEndDate().toEpochDay();
+            return interval.getStartDate() != null ? Math.max(end, interval.getStartDate().toEpochDay()) : end;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.opexhub.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.company.opexhub.dto.TimelineInterval;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.TimelineEntry;
+import com.company.opexhub.entity.TimelineTask;
+
+/**
+ * Feeds timeline task and entry writes, and initiative site changes, to TimelineIntervalIndex once
+ * the transaction has committed. Values are copied when the event fires, so later changes to the
+ * entity in the same session cannot leak into the index.
+ */
+@Component
+public class TimelineIntervalListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    @Autowired
+    private TimelineIntervalIndex timelineIntervalIndex;
+
+    private final Map<SessionImplementor, List<Runnable>> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        saved(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        saved(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof TimelineTask) {
+            Long id = ((TimelineTask) entity).getId();
+            record(event.getSession(), () -> timelineIntervalIndex.remove(TimelineInterval.TASK, id));
+        } else if (entity instanceof TimelineEntry) {
+            Long id = ((TimelineEntry) entity).getId();
+            record(event.getSession(), () -> timelineIntervalIndex.remove(TimelineInterval.ENTRY, id));
+        } else if (entity instanceof Initiative) {
+            Long id = ((Initiative) entity).getId();
+            record(event.getSession(), () -> timelineIntervalIndex.removeInitiatives(Collections.singleton(id)));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void saved(EventSource session, Object entity) {
+        if (entity instanceof TimelineTask) {
+            TimelineTask task = (TimelineTask) entity;
+            TimelineInterval interval = new TimelineInterval(TimelineInterval.TASK, task.getId(),
+                    task.getInitiative() != null ? task.getInitiative().getId() : null, task.getResponsible(),
+                    task.getTitle(), task.getStartDate(), task.getEndDate());
+            record(session, () -> timelineIntervalIndex.put(interval));
+        } else if (entity instanceof TimelineEntry) {
+            TimelineEntry entry = (TimelineEntry) entity;
+            TimelineInterval interval = new TimelineInterval(TimelineInterval.ENTRY, entry.getId(),
+                    entry.getInitiative() != null ? entry.getInitiative().getId() : null, entry.getResponsiblePerson(),
+                    entry.getStageName(), entry.getPlannedStartDate(), entry.getPlannedEndDate());
+            record(session, () -> timelineIntervalIndex.put(interval));
+        } else if (entity instanceof Initiative) {
+            Long id = ((Initiative) entity).getId();
+            String site = ((Initiative) entity).getSite();
+            record(session, () -> timelineIntervalIndex.setInitiativeSite(id, site));
+        }
+    }
+
+    private void record(EventSource session, Runnable change) {
+        pending.computeIfAbsent(session, this::registerCompletion).add(change);
+    }
+
+    private List<Runnable> registerCompletion(SessionImplementor session) {
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+            List<Runnable> changes = pending.remove(s);
+            if (success && changes != null) {
+                // In flush order, so an initiative's site is known before its tasks arrive
+                for (Runnable change : changes) {
+                    change.run();
+                }
+            }
+        });
+        return new ArrayList<>();
+    }
+}
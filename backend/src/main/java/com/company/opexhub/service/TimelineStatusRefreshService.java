@@ -0,0 +1,78 @@
+package com.company.opexhub.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.dto.TimelineStatusRefresh;
+import com.company.opexhub.entity.TimelineEntry.TimelineStatus;
+import com.company.opexhub.repository.TimelineEntryRepository;
+import com.company.opexhub.repository.TimelineTaskRepository;
+
+/**
+ * Moves date-driven state forward for rows nobody edits: timeline entry status (PENDING to
+ * IN_PROGRESS once the planned start passes) and the task overdue flag. Runs just after midnight
+ * in the configured zone and at startup, as set-based updates that only touch rows that change.
+ */
+@Service
+public class TimelineStatusRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineStatusRefreshService.class);
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Autowired
+    private TimelineTaskRepository timelineTaskRepository;
+
+    // Blank means the JVM default, which is also what the entity hooks use
+    @Value("${timeline.status-refresh.zone:}")
+    private String zone;
+
+    private volatile TimelineStatusRefresh lastRun;
+
+    /**
+     * Startup run; void so Spring does not publish the result as another event.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void refreshAtStartup() {
+        refresh();
+    }
+
+    @Scheduled(cron = "${timeline.status-refresh.cron:0 0 0 * * *}", zone = "${timeline.status-refresh.zone:}")
+    @Transactional
+    public TimelineStatusRefresh refresh() {
+        ZoneId zoneId = zone != null && !zone.trim().isEmpty() ? ZoneId.of(zone.trim()) : ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zoneId);
+        LocalDateTime now = LocalDateTime.now();
+
+        int entries = timelineEntryRepository.markCompleted(TimelineStatus.COMPLETED, now)
+                + timelineEntryRepository.markInProgress(TimelineStatus.IN_PROGRESS, today, now)
+                + timelineEntryRepository.markPending(TimelineStatus.PENDING, today, now);
+        int tasks = timelineTaskRepository.markOverdue(today, now)
+                + timelineTaskRepository.clearOverdue(today, now);
+
+        lastRun = new TimelineStatusRefresh(now, today, zoneId.getId(), entries, tasks);
+        logger.info("Timeline status refreshed as of {} ({}): {} entries, {} tasks updated",
+                today, zoneId.getId(), entries, tasks);
+        return lastRun;
+    }
+
+    /**
+     * The most recent run, or null if none has completed since startup.
+     */
+    public TimelineStatusRefresh getLastRun() {
+        return lastRun;
+    }
+}
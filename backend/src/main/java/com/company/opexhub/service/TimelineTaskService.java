@@ -1,6 +1,7 @@
 package com.company.opexhub.service;
 
 import com.company.opexhub.entity.TimelineTask;
+import com.company.opexhub.repository.TimelineTaskDependencyRepository;
 import com.company.opexhub.repository.TimelineTaskRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,12 @@ public class TimelineTaskService {
     @Autowired
     private TimelineTaskRepository timelineTaskRepository;
 
+    @Autowired
+    private TimelineTaskDependencyRepository timelineTaskDependencyRepository;
+
+    @Autowired
+    private CriticalPathService criticalPathService;
+
     public List<TimelineTask> getTasksByInitiative(Long initiativeId) {
         return timelineTaskRepository.findByInitiativeIdOrderByStartDate(initiativeId);
     }
@@ -25,7 +32,11 @@ public class TimelineTaskService {
 
     @Transactional
     public TimelineTask createTask(TimelineTask task) {
-        return timelineTaskRepository.save(task);
+        TimelineTask saved = timelineTaskRepository.save(task);
+        if (saved.getInitiative() != null) {
+            criticalPathService.evictAfterCommit(saved.getInitiative().getId());
+        }
+        return saved;
     }
 
     @Transactional
@@ -45,7 +56,9 @@ public class TimelineTaskService {
         task.setInformed(taskDetails.getInformed());
         task.setComments(taskDetails.getComments());
 
-        return timelineTaskRepository.save(task);
+        TimelineTask saved = timelineTaskRepository.save(task);
+        criticalPathService.taskChangedAfterCommit(saved);
+        return saved;
     }
 
     @Transactional
@@ -64,11 +77,18 @@ public class TimelineTaskService {
             task.setStatus("Completed");
         }
 
-        return timelineTaskRepository.save(task);
+        TimelineTask saved = timelineTaskRepository.save(task);
+        criticalPathService.taskChangedAfterCommit(saved);
+        return saved;
     }
 
+    @Transactional
     public void deleteTask(Long id) {
+        Long initiativeId = timelineTaskRepository.findInitiativeIdById(id)
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+        timelineTaskDependencyRepository.deleteByTaskId(id);
         timelineTaskRepository.deleteById(id);
+        criticalPathService.evictAfterCommit(initiativeId);
     }
 
     public List<TimelineTask> getTasksByStatus(String status) {
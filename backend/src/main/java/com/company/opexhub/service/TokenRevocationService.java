@@ -0,0 +1,118 @@
+package com.company.opexhub.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.entity.RevokedToken;
+import com.company.opexhub.repository.RevokedTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Revoked token ids, stored in revoked_tokens until the token expires. A Bloom filter over every
+ * unexpired revocation answers the usual "not revoked" with no I/O; only its positives, a revoked
+ * token being retried or a rare false positive, are confirmed against the table, and the answers
+ * are kept in a small cache. The scheduled refresh purges expired rows, rebuilds the filter without
+ * them and picks up revocations made on other nodes.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.expected-entries:10000}")
+    private int expectedEntries;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    // Revoked here since the current refresh began, which its query may have missed; guarded by this
+    private final List<String> revokedSinceRefresh = new ArrayList<>();
+
+    // Confirmed answers for ids the filter could not rule out; cleared on each refresh
+    private final Cache<String, Boolean> confirmed = Caffeine.newBuilder().maximumSize(1000).build();
+
+    @PostConstruct
+    public void init() {
+        filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${jwt.revocation.refresh-cron:30 * * * * *}")
+    @Transactional
+    public void refresh() {
+        synchronized (this) {
+            revokedSinceRefresh.clear();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int purged = revokedTokenRepository.deleteExpired(now);
+        List<String> active = revokedTokenRepository.findActiveJtis(now);
+        // Sized with headroom so the false-positive rate holds as revocations accumulate
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, active.size() * 2), falsePositiveRate);
+        for (String jti : active) {
+            rebuilt.add(jti);
+        }
+        synchronized (this) {
+            for (String jti : revokedSinceRefresh) {
+                rebuilt.add(jti);
+            }
+            filter = rebuilt;
+        }
+        confirmed.invalidateAll();
+        logger.debug("Token revocations refreshed: {} active, {} expired purged", active.size(), purged);
+    }
+
+    /**
+     * Whether a verified token has been revoked. Tokens issued without an id cannot be.
+     */
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return confirmed.get(jti, revokedTokenRepository::existsByJti);
+    }
+
+    /**
+     * Revoke a verified token for the rest of its lifetime.
+     */
+    @Transactional
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            throw new RuntimeException("Token was issued without an id and cannot be revoked");
+        }
+        if (!revokedTokenRepository.existsByJti(jti)) {
+            LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+            revokedTokenRepository.save(new RevokedToken(jti, Long.parseLong(claims.getSubject()), expiresAt));
+        }
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                filter.add(jti);
+                revokedSinceRefresh.add(jti);
+            }
+            confirmed.put(jti, Boolean.TRUE);
+        });
+    }
+}
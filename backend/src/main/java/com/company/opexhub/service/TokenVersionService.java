@@ -0,0 +1,68 @@
+package com.company.opexhub.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.company.opexhub.repository.UserRepository;
+
+/**
+ * Current token version of every user whose role or site has changed, held in memory so that
+ * claims-based authentication can reject outdated tokens without a lookup per request. Changes
+ * committed on this node arrive at once through UserPrincipalCacheListener; a scheduled reload
+ * picks up those made on other nodes. Only loaded when jwt.claims-principal is on.
+ */
+@Service
+public class TokenVersionService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.claims-principal:false}")
+    private boolean claimsPrincipal;
+
+    // Users absent from the map are still on version 0
+    private volatile Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${jwt.token-version-refresh-cron:0 * * * * *}")
+    public void refresh() {
+        if (!claimsPrincipal) {
+            return;
+        }
+        Map<Long, Integer> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : userRepository.findTokenVersions()) {
+            loaded.put((Long) row[0], (Integer) row[1]);
+        }
+        // Versions only go up, so keeping the higher value cannot undo a change seen meanwhile
+        for (Map.Entry<Long, Integer> entry : versions.entrySet()) {
+            loaded.merge(entry.getKey(), entry.getValue(), Math::max);
+        }
+        versions = loaded;
+    }
+
+    public int currentVersion(Long userId) {
+        return versions.getOrDefault(userId, 0);
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= currentVersion(userId);
+    }
+
+    public void update(Long userId, int tokenVersion) {
+        versions.merge(userId, tokenVersion, Math::max);
+    }
+
+    /**
+     * Reject every token of a deleted user.
+     */
+    public void revokeAll(Long userId) {
+        versions.put(userId, Integer.MAX_VALUE);
+    }
+}
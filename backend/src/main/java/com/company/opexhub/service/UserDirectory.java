@@ -0,0 +1,251 @@
+package com.company.opexhub.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.opexhub.dto.UserSummary;
+import com.company.opexhub.repository.UserRepository;
+
+/**
+ * In-memory user directory for assignee pickers and typeahead. Each user is held in up to four
+ * partitions (all, their site, their role, site and role), each with the users sorted by name and a
+ * prefix trie over the words of their name and their email, accent-folded and lower-cased. Built at
+ * startup and kept current by UserDirectoryListener after each commit.
+ */
+@Service
+public class UserDirectory {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDirectory.class);
+
+    public static final int MAX_RESULTS = 100;
+
+    private static final String ALL = "";
+
+    private static final Comparator<Member> BY_NAME = Comparator.comparing((Member m) -> m.sortName)
+            .thenComparing(m -> m.summary.getId());
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<Long, Member> members = new HashMap<>();
+    private final Map<String, Partition> partitions = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        members.clear();
+        partitions.clear();
+        for (Object[] row : userRepository.findSummaries()) {
+            add(new UserSummary((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (String) row[5], (String) row[6]));
+        }
+        logger.debug("User directory rebuilt: {} users in {} partitions", members.size(), partitions.size());
+    }
+
+    /**
+     * Add or replace a user.
+     */
+    public synchronized void put(UserSummary user) {
+        remove(user.getId());
+        add(user);
+    }
+
+    public synchronized void remove(Long userId) {
+        Member member = members.remove(userId);
+        if (member == null) {
+            return;
+        }
+        for (String key : keys(member.summary)) {
+            Partition partition = partitions.get(key);
+            partition.remove(member);
+            if (partition.byName.isEmpty()) {
+                partitions.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Users ordered by name; site and role are optional filters.
+     */
+    public synchronized List<UserSummary> list(String site, String role) {
+        Partition partition = partitions.get(key(site, role));
+        if (partition == null) {
+            return Collections.emptyList();
+        }
+        List<UserSummary> result = new ArrayList<>(partition.byName.size());
+        for (Member member : partition.byName) {
+            result.add(member.summary);
+        }
+        return result;
+    }
+
+    /**
+     * Users of a site in one discipline, ordered by name.
+     */
+    public synchronized List<UserSummary> listByDiscipline(String site, String discipline) {
+        Partition partition = partitions.get(key(site, null));
+        if (partition == null) {
+            return Collections.emptyList();
+        }
+        List<UserSummary> result = new ArrayList<>();
+        for (Member member : partition.byName) {
+            if (discipline.equals(member.summary.getDiscipline())) {
+                result.add(member.summary);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Up to limit users where every word of the query starts a word of the name or the email, in
+     * order of the word matched by the longest query word. A blank query lists users by name.
+     */
+    public synchronized List<UserSummary> search(String query, String site, String role, int limit) {
+        int max = Math.max(1, Math.min(limit, MAX_RESULTS));
+        List<UserSummary> result = new ArrayList<>(max);
+        Partition partition = partitions.get(key(site, role));
+        if (partition == null) {
+            return result;
+        }
+
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            for (Member member : partition.byName) {
+                if (result.size() == max) {
+                    break;
+                }
+                result.add(member.summary);
+            }
+            return result;
+        }
+
+        // The longest word narrows the trie walk most; the others are checked per candidate
+        words.sort(Comparator.comparingInt(String::length).reversed());
+        List<String> others = words.subList(1, words.size());
+        Set<Long> seen = new HashSet<>();
+        partition.trie.visit(words.get(0), id -> {
+            Member member = members.get(id);
+            if (seen.add(id) && member.matchesAll(others)) {
+                result.add(member.summary);
+            }
+            return result.size() < max;
+        });
+        return result;
+    }
+
+    private void add(UserSummary user) {
+        Member member = new Member(user);
+        members.put(user.getId(), member);
+        for (String key : keys(user)) {
+            partitions.computeIfAbsent(key, k -> new Partition()).add(member);
+        }
+    }
+
+    private static List<String> keys(UserSummary user) {
+        List<String> keys = new ArrayList<>(4);
+        keys.add(ALL);
+        if (user.getSite() != null) {
+            keys.add(key(user.getSite(), null));
+        }
+        if (user.getRole() != null) {
+            keys.add(key(null, user.getRole()));
+        }
+        if (user.getSite() != null && user.getRole() != null) {
+            keys.add(key(user.getSite(), user.getRole()));
+        }
+        return keys;
+    }
+
+    private static String key(String site, String role) {
+        if (site == null) {
+            return role == null ? ALL : "r:" + role;
+        }
+        return role == null ? "s:" + site : "s:" + site + "|r:" + role;
+    }
+
+    // "José O'Neil" becomes "jose o'neil", so plain ASCII typing finds accented names
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT).trim();
+    }
+
+    // Queries, names and emails split the same way, so "o'neil" and "tiwari@go" match as typed
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static class Member {
+        private final UserSummary summary;
+        private final String sortName;
+        private final Set<String> terms = new LinkedHashSet<>();
+
+        Member(UserSummary summary) {
+            this.summary = summary;
+            this.sortName = normalize(summary.getFullName());
+            terms.addAll(words(summary.getFullName()));
+            terms.addAll(words(summary.getEmail()));
+        }
+
+        boolean matchesAll(List<String> words) {
+            for (String word : words) {
+                boolean matched = false;
+                for (String term : terms) {
+                    if (term.startsWith(word)) {
+                        matched = true;
+                        break;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class Partition {
+        private final TreeSet<Member> byName = new TreeSet<>(BY_NAME);
+        private final PrefixTrie trie = new PrefixTrie();
+
+        void add(Member member) {
+            byName.add(member);
+            for (String term : member.terms) {
+                trie.add(term, member.summary.getId());
+            }
+        }
+
+        void remove(Member member) {
+            byName.remove(member);
+            for (String term : member.terms) {
+                trie.remove(term, member.summary.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.company.opexhub.service;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.company.opexhub.dto.UserSummary;
+import com.company.opexhub.entity.User;
+
+/**
+ * Feeds user inserts, updates and deletes to UserDirectory once the transaction has committed.
+ * The summary is copied when the event fires, so later changes in the same session cannot leak in.
+ */
+@Component
+public class UserDirectoryListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    @Autowired
+    private UserDirectory userDirectory;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof User) {
+            UserSummary summary = new UserSummary((User) event.getEntity());
+            event.getSession().getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+                if (success) {
+                    userDirectory.put(summary);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof User) {
+            UserSummary summary = new UserSummary((User) event.getEntity());
+            event.getSession().getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+                if (success) {
+                    userDirectory.put(summary);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User) {
+            Long userId = (Long) event.getId();
+            event.getSession().getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+                if (success) {
+                    userDirectory.remove(userId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+package com.company.opexhub.service;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.company.opexhub.entity.User;
+
+/**
+ * Drops a user's cached principal once an update or delete of that user has committed, so the
+ * next request sees the new role, site or password rather than waiting for the cache TTL, and
+ * passes a new token version straight to TokenVersionService on this node.
+ */
+@Component
+public class UserPrincipalCacheListener implements PostUpdateEventListener, PostDeleteEventListener {
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof User) {
+            Long userId = (Long) event.getId();
+            Integer version = ((User) event.getEntity()).getTokenVersion();
+            evictAfterCompletion(event.getSession(), userId);
+            event.getSession().getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+                if (success && version != null) {
+                    tokenVersionService.update(userId, version);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User) {
+            Long userId = (Long) event.getId();
+            evictAfterCompletion(event.getSession(), userId);
+            event.getSession().getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+                if (success) {
+                    tokenVersionService.revokeAll(userId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void evictAfterCompletion(EventSource session, Long userId) {
+        // Evicted on rollback too: a cache miss costs one lookup and can never serve stale data
+        session.getActionQueue().registerProcess(
+                (AfterTransactionCompletionProcess) (success, s) -> customUserDetailsService.evictPrincipal(userId));
+    }
+}
@@ -1,11 +1,19 @@
 package com.company.opexhub.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +42,9 @@ public class WorkflowTransactionService {
     @Autowired
     private WfMasterRepository wfMasterRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<WorkflowTransaction> getWorkflowTransactions(Long initiativeId) {
         return workflowTransactionRepository.findByInitiativeIdOrderByStageNumber(initiativeId);
     }
@@ -158,6 +169,57 @@ public class WorkflowTransactionService {
             throw new RuntimeException("No workflow configuration found for site: " + initiative.getSite());
         }
 
+        List<WorkflowTransaction> transactions = buildInitialWorkflowTransactions(initiative, workflowStages);
+        workflowTransactionRepository.saveAll(transactions);
+        notifyInboxAdditions(transactions);
+    }
+
+    /**
+     * Push inbox additions for the pending transactions among these. Delivered once the current
+     * transaction commits.
+     */
+    public void notifyInboxAdditions(Collection<WorkflowTransaction> transactions) {
+        for (WorkflowTransaction transaction : transactions) {
+            if ("pending".equals(transaction.getApproveStatus()) && transaction.getPendingWith() != null) {
+                eventPublisher.publishEvent(inboxEvent(NotificationEvent.INBOX_ADDED, transaction, transaction.getPendingWith()));
+            }
+        }
+    }
+
+    /**
+     * Push inbox removals for pending transactions that are going away without an approval action,
+     * such as when their initiative is deleted.
+     */
+    public void notifyInboxRemovals(Collection<WorkflowTransaction> transactions) {
+        for (WorkflowTransaction transaction : transactions) {
+            if ("pending".equals(transaction.getApproveStatus()) && transaction.getPendingWith() != null) {
+                eventPublisher.publishEvent(inboxEvent(NotificationEvent.INBOX_REMOVED, transaction, transaction.getPendingWith()));
+            }
+        }
+    }
+
+    private NotificationEvent inboxEvent(String name, WorkflowTransaction transaction, String pendingWith) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("transactionId", transaction.getId());
+        data.put("initiativeId", transaction.getInitiativeId());
+        data.put("stageNumber", transaction.getStageNumber());
+        data.put("stageName", transaction.getStageName());
+        data.put("site", transaction.getSite());
+        data.put("pendingWith", pendingWith);
+
+        // pendingWith is a user's email, or a role code when no user was found for the stage
+        boolean isEmail = pendingWith.contains("@");
+        return new NotificationEvent(name, isEmail ? pendingWith : null, isEmail ? null : pendingWith,
+                transaction.getSite(), data);
+    }
+
+    /**
+     * Build the Stage 1 (auto-approved) and Stage 2 (pending) transactions for a newly saved initiative
+     * from the site's active wf_master rows, without touching the database.
+     */
+    public List<WorkflowTransaction> buildInitialWorkflowTransactions(Initiative initiative, List<WfMaster> workflowStages) {
+        List<WorkflowTransaction> transactions = new ArrayList<>();
+
         // Only create Stage 1 initially - other stages will be created sequentially
         for (WfMaster wfStage : workflowStages) {
             if (wfStage.getStageNumber() == 1) {
@@ -177,13 +239,35 @@ public class WorkflowTransactionService {
                 transaction.setComment("Initiative created and registered");
                 transaction.setPendingWith(null);
                 
-                workflowTransactionRepository.save(transaction);
+                transactions.add(transaction);
+                break;
+            }
+        }
+
+        if (transactions.isEmpty()) {
+            return transactions;
+        }
+
+        // Create Stage 2 as pending
+        for (WfMaster wfStage : workflowStages) {
+            if (wfStage.getStageNumber() == 2) {
+                WorkflowTransaction transaction = new WorkflowTransaction(
+                    initiative.getId(),
+                    wfStage.getStageNumber(),
+                    wfStage.getStageName(),
+                    initiative.getSite(),
+                    wfStage.getRoleCode(),
+                    wfStage.getUserEmail()
+                );
                 
-                // Create Stage 2 as pending
-                createNextStage(initiative.getId(), 2);
+                transaction.setApproveStatus("pending");
+                transaction.setPendingWith(wfStage.getUserEmail());
+                transactions.add(transaction);
                 break;
             }
         }
+
+        return transactions;
     }
     
     @Transactional
@@ -215,6 +299,7 @@ public class WorkflowTransactionService {
                 transaction.setApproveStatus("pending");
                 transaction.setPendingWith(wfStage.getUserEmail());
                 workflowTransactionRepository.save(transaction);
+                notifyInboxAdditions(Collections.singletonList(transaction));
             }
         }
     }
@@ -229,6 +314,7 @@ public class WorkflowTransactionService {
         if (!"pending".equals(transaction.getApproveStatus())) {
             throw new RuntimeException("Transaction is not pending");
         }
+        String previousPendingWith = transaction.getPendingWith();
 
         transaction.setApproveStatus(action); // "approved" or "rejected"
         transaction.setActionBy(actionBy);
@@ -256,6 +342,9 @@ public class WorkflowTransactionService {
         }
 
         WorkflowTransaction savedTransaction = workflowTransactionRepository.save(transaction);
+        if (previousPendingWith != null) {
+            eventPublisher.publishEvent(inboxEvent(NotificationEvent.INBOX_REMOVED, savedTransaction, previousPendingWith));
+        }
 
         // Update initiative status and move to next stage if approved
         Initiative initiative = initiativeRepository.findById(transaction.getInitiativeId())
@@ -311,6 +400,14 @@ public class WorkflowTransactionService {
         }
 
         initiativeRepository.save(initiative);
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("initiativeId", initiative.getId());
+        data.put("status", initiative.getStatus());
+        data.put("currentStage", initiative.getCurrentStage());
+        eventPublisher.publishEvent(new NotificationEvent(NotificationEvent.INITIATIVE_STATUS, null, null,
+                initiative.getSite(), data));
+
         return savedTransaction;
     }
 
@@ -330,6 +427,9 @@ public class WorkflowTransactionService {
             {"6", "Initiative Timeline Tracker", "IL"}
         };
         
+        List<WorkflowTransaction> newTransactions = new ArrayList<>();
+        List<WfMaster> newWfMasters = new ArrayList<>();
+
         for (String[] stageData : ilStages) {
             int stageNumber = Integer.parseInt(stageData[0]);
             String stageName = stageData[1];
@@ -360,7 +460,7 @@ public class WorkflowTransactionService {
                 }
                 
                 transaction.setAssignedUserId(assignedUserId);
-                workflowTransactionRepository.save(transaction);
+                newTransactions.add(transaction);
                 
                 // Also create corresponding WfMaster entry dynamically
                 Optional<WfMaster> existingWfMaster = wfMasterRepository
@@ -374,10 +474,15 @@ public class WorkflowTransactionService {
                         initiative.getSite(),
                         assignedUser.getEmail()
                     );
-                    wfMasterRepository.save(wfMaster);
+                    newWfMasters.add(wfMaster);
                 }
             }
         }
+
+        // Flushed together so the three stages go out as one JDBC batch per table
+        workflowTransactionRepository.saveAll(newTransactions);
+        wfMasterRepository.saveAll(newWfMasters);
+        notifyInboxAdditions(newTransactions);
     }
 
     @Transactional
@@ -398,6 +503,7 @@ public class WorkflowTransactionService {
             }
             
             workflowTransactionRepository.save(transaction);
+            notifyInboxAdditions(Collections.singletonList(transaction));
         }
     }
 
@@ -427,6 +533,7 @@ public class WorkflowTransactionService {
             transaction.setApproveStatus("pending");
             transaction.setPendingWith(roleCode);  // Pending with role code
             workflowTransactionRepository.save(transaction);
+            notifyInboxAdditions(Collections.singletonList(transaction));
         } else {
             // Create with specific user assignment (use first user found)
             User assignedUser = roleUsers.get(0);
@@ -442,6 +549,7 @@ public class WorkflowTransactionService {
             transaction.setApproveStatus("pending");
             transaction.setPendingWith(assignedUser.getEmail());
             workflowTransactionRepository.save(transaction);
+            notifyInboxAdditions(Collections.singletonList(transaction));
         }
     }
 
@@ -528,4 +636,37 @@ public class WorkflowTransactionService {
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * Bulk form of hasSavingsMonitoringAccess: the initiatives among these the user may not enter
+     * savings for, checked with one query.
+     */
+    public Set<Long> findInitiativesWithoutSavingsMonitoringAccess(Collection<Long> initiativeIds, String userEmail, String userRole) {
+        Set<Long> denied = new HashSet<>(initiativeIds);
+        for (WorkflowTransaction transaction : workflowTransactionRepository.findByInitiativeIdInAndStageNumber(initiativeIds, 9)) {
+            if ("approved".equals(transaction.getApproveStatus()) &&
+                    ("STLD".equals(userRole) || userEmail.equals(transaction.getPendingWith()))) {
+                denied.remove(transaction.getInitiativeId());
+            }
+        }
+        return denied;
+    }
+
+    /**
+     * Initiatives of a site whose Timeline Tracker the user may open, by the same rule as hasTimelineTrackerAccess
+     */
+    public Set<Long> findTimelineTrackerInitiativeIds(String site, String userEmail) {
+        Long userId = userRepository.findByEmail(userEmail).map(User::getId).orElse(null);
+        Set<Long> initiativeIds = new HashSet<>();
+        for (WorkflowTransaction transaction : workflowTransactionRepository
+                .findByStageNumberAndApproveStatusAndSite(6, "approved", site)) {
+            boolean assigned = transaction.getAssignedUserId() != null
+                    ? transaction.getAssignedUserId().equals(userId)
+                    : userEmail.equals(transaction.getPendingWith());
+            if (assigned) {
+                initiativeIds.add(transaction.getInitiativeId());
+            }
+        }
+        return initiativeIds;
+    }
+}
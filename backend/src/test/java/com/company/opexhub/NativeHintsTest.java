@@ -0,0 +1,140 @@
+package com.company.opexhub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The native-image hints cover what Hibernate, Jackson, jjwt and H2 reach by reflection, and every
+ * class they name exists. Runs on the JVM in every build; NativeSmokeIT checks the image itself.
+ */
+class NativeHintsTest {
+
+    private static final String HINTS = "META-INF/native-image/com.company/opex-hub/";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void reflectionHintsNameExistingClasses() throws Exception {
+        for (String name : reflectionHints()) {
+            Class.forName(name, false, getClass().getClassLoader());
+        }
+    }
+
+    @Test
+    void entitiesAndDtosAreRegisteredForReflection() throws Exception {
+        Set<String> hints = reflectionHints();
+        assertThat(hints).containsAll(classesIn("com.company.opexhub.entity"));
+        assertThat(hints).containsAll(classesIn("com.company.opexhub.dto"));
+    }
+
+    @Test
+    void jwtAndH2ClassesAreRegisteredForReflection() throws Exception {
+        Set<String> hints = reflectionHints();
+        assertThat(hints).contains(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.SignatureAlgorithm",
+                "org.h2.Driver");
+        // H2 creates its file system providers by name, the in-memory and file ones included
+        assertThat(hints).containsAll(classNamesIn("org/h2/store/fs/FilePath.class", "org\\.h2\\.store\\.fs\\.[\\w.]+"));
+    }
+
+    @Test
+    void everyRepositoryHasAProxyHint() throws Exception {
+        Set<String> proxied = new TreeSet<>();
+        for (JsonNode proxy : read("proxy-config.json")) {
+            proxied.add(proxy.get("interfaces").get(0).asText());
+        }
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return definition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+        List<String> repositories = new ArrayList<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents("com.company.opexhub.repository")) {
+            repositories.add(definition.getBeanClassName());
+        }
+        assertThat(repositories).isNotEmpty();
+        assertThat(proxied).containsAll(repositories);
+    }
+
+    @Test
+    void configurationFilesAreIncludedAsResources() throws Exception {
+        List<Pattern> includes = new ArrayList<>();
+        for (JsonNode include : read("resource-config.json").get("resources").get("includes")) {
+            includes.add(Pattern.compile(include.get("pattern").asText()));
+        }
+        for (String resource : Arrays.asList("application.yml", "application-prod.yml", "application-faststart.yml")) {
+            assertThat(new ClassPathResource(resource).exists()).as(resource).isTrue();
+            assertThat(includes).as(resource).anyMatch(pattern -> pattern.matcher(resource).matches());
+        }
+    }
+
+    private Set<String> reflectionHints() throws IOException {
+        Set<String> names = new TreeSet<>();
+        for (JsonNode hint : read("reflect-config.json")) {
+            names.add(hint.get("name").asText());
+        }
+        return names;
+    }
+
+    private JsonNode read(String file) throws IOException {
+        try (InputStream in = new ClassPathResource(HINTS + file).getInputStream()) {
+            return MAPPER.readTree(in);
+        }
+    }
+
+    // Top-level and nested classes, enums included
+    private static Set<String> classesIn(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) -> true);
+        Set<String> names = new TreeSet<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents(basePackage)) {
+            names.add(definition.getBeanClassName());
+        }
+        assertThat(names).as(basePackage).isNotEmpty();
+        return names;
+    }
+
+    // Class names held as string constants in a library class, the ones it loads reflectively
+    private Set<String> classNamesIn(String classFile, String regex) throws IOException {
+        String constants;
+        try (InputStream in = new ClassPathResource(classFile).getInputStream()) {
+            constants = new String(StreamUtils.copyToByteArray(in), StandardCharsets.ISO_8859_1);
+        }
+        Set<String> names = new TreeSet<>();
+        Matcher matcher = Pattern.compile(regex).matcher(constants);
+        while (matcher.find()) {
+            names.add(matcher.group());
+        }
+        assertThat(names).as(classFile).isNotEmpty();
+        return names;
+    }
+}
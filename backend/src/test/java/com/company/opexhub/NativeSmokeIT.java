@@ -0,0 +1,146 @@
+package com.company.opexhub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Starts the native executable and runs the paths that depend on the reflection hints: sign-in
+ * with a JWT, reading and writing initiatives through Jackson and H2, and an Excel export. Run by
+ * failsafe in the native profile ({@code mvn -Pnative verify}), with native.image set to the built
+ * executable; skipped when there is none.
+ */
+class NativeSmokeIT {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final long STARTUP_TIMEOUT_MS = 60_000;
+
+    private static Process process;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void start() throws Exception {
+        String image = System.getProperty("native.image");
+        assumeTrue(image != null && new File(image).canExecute(), "No native executable at " + image);
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://localhost:" + port;
+        File log = new File(new File(image).getParentFile(), "native-smoke.log");
+        process = new ProcessBuilder(image, "--server.port=" + port)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+
+        // Demo users are seeded after the server starts listening, so wait for a sign-in to succeed
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MS;
+        while (true) {
+            assertThat(process.isAlive()).as("native executable exited, see " + log).isTrue();
+            try {
+                if (signIn().code == 200) {
+                    return;
+                }
+            } catch (IOException notListening) {
+                // Not accepting connections yet
+            }
+            assertThat(System.currentTimeMillis()).as("started within the timeout, see " + log).isLessThan(deadline);
+            Thread.sleep(250);
+        }
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    void signInReadWriteAndExport() throws Exception {
+        Response signIn = signIn();
+        assertThat(signIn.code).isEqualTo(200);
+        String token = "Bearer " + signIn.json().get("data").get("token").asText();
+
+        assertThat(call("GET", "/api/initiatives", token, null).code).isEqualTo(200);
+
+        String initiative = "{\"title\":\"Native smoke\",\"description\":\"Created by NativeSmokeIT\","
+                + "\"priority\":\"High\",\"expectedSavings\":1000,\"site\":\"NDS\",\"discipline\":\"Operation\","
+                + "\"startDate\":\"" + LocalDate.now() + "\",\"endDate\":\"" + LocalDate.now().plusMonths(3) + "\","
+                + "\"initiatorName\":\"Smoke Test\"}";
+        Response created = call("POST", "/api/initiatives", token, initiative);
+        assertThat(created.code).as(created.body).isBetween(200, 201);
+
+        Response search = call("GET", "/api/initiatives?search=Native%20smoke", token, null);
+        assertThat(search.code).isEqualTo(200);
+        assertThat(search.body).contains("Native smoke");
+
+        Response export = call("GET", "/api/reports/export/detailed-excel", token, null);
+        assertThat(export.code).isEqualTo(200);
+        // An .xlsx file is a zip archive
+        assertThat(export.body).startsWith("PK");
+    }
+
+    private static Response signIn() throws IOException {
+        return call("POST", "/api/auth/signin", null,
+                "{\"email\":\"manoj.tiwari@godeepak.com\",\"password\":\"password123\"}");
+    }
+
+    private static Response call(String method, String path, String token, String json) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setConnectTimeout(2_000);
+        connection.setReadTimeout(30_000);
+        if (token != null) {
+            connection.setRequestProperty("Authorization", token);
+        }
+        if (json != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int code = connection.getResponseCode();
+        InputStream in = code < 400 ? connection.getInputStream() : connection.getErrorStream();
+        String body = in != null ? StreamUtils.copyToString(in, StandardCharsets.ISO_8859_1) : "";
+        return new Response(code, body);
+    }
+
+    private static class Response {
+        private final int code;
+        private final String body;
+
+        Response(int code, String body) {
+            this.code = code;
+            this.body = body;
+        }
+
+        JsonNode json() throws IOException {
+            return MAPPER.readTree(body);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.opexhub.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.repository.WfMasterRepository;
+
+/**
+ * Seeding only inserts what is missing, so starting on a kept database changes nothing. With
+ * startup.seed-async it runs on the task executor after run() has returned.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DataInitializerTest {
+
+    @Autowired
+    private DataInitializer dataInitializer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WfMasterRepository wfMasterRepository;
+
+    @Autowired
+    private TaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private StartupReport startupReport;
+
+    @AfterEach
+    void restoreFields() {
+        ReflectionTestUtils.setField(dataInitializer, "seedAsync", false);
+        ReflectionTestUtils.setField(dataInitializer, "taskExecutor", applicationTaskExecutor);
+        ReflectionTestUtils.setField(dataInitializer, "startupReport", startupReport);
+    }
+
+    @Test
+    void seedingTwiceAddsNothing() throws Exception {
+        long users = userRepository.count();
+        long wfMasters = wfMasterRepository.count();
+        assertThat(userRepository.findByEmail("manoj.tiwari@godeepak.com")).isPresent();
+        assertThat(wfMasters).isPositive();
+
+        dataInitializer.run();
+
+        assertThat(userRepository.count()).isEqualTo(users);
+        assertThat(wfMasterRepository.count()).isEqualTo(wfMasters);
+    }
+
+    @Test
+    void asyncSeedingRunsOnTheExecutorAndIsReported() throws Exception {
+        long users = userRepository.count();
+        List<Runnable> queued = new ArrayList<>();
+        StartupReport report = mock(StartupReport.class);
+        ReflectionTestUtils.setField(dataInitializer, "seedAsync", true);
+        ReflectionTestUtils.setField(dataInitializer, "taskExecutor", (TaskExecutor) queued::add);
+        ReflectionTestUtils.setField(dataInitializer, "startupReport", report);
+
+        dataInitializer.run();
+        assertThat(queued).hasSize(1);
+        verify(report, never()).seedingFinished();
+
+        queued.get(0).run();
+        verify(report).seedingFinished();
+        assertThat(userRepository.count()).isEqualTo(users);
+    }
+}
@@ -0,0 +1,34 @@
+package com.company.opexhub.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import com.company.opexhub.service.InitiativeService;
+import com.company.opexhub.service.TimelineStatusRefreshService;
+import com.company.opexhub.service.TokenRevocationService;
+
+/**
+ * Under fast start only the beans that must exist from the beginning stay eager.
+ */
+class FastStartConfigTest {
+
+    private final LazyInitializationExcludeFilter eager = FastStartConfig.eagerBeans();
+
+    @Test
+    void listenersReportAndScheduledJobsStayEager() {
+        assertThat(isEager(HibernateEventConfig.class)).isTrue();
+        assertThat(isEager(StartupReport.class)).isTrue();
+        assertThat(isEager(TimelineStatusRefreshService.class)).isTrue();
+        assertThat(isEager(TokenRevocationService.class)).isTrue();
+
+        assertThat(isEager(InitiativeService.class)).isFalse();
+        assertThat(isEager(DataInitializer.class)).isFalse();
+    }
+
+    private boolean isEager(Class<?> type) {
+        return eager.isExcluded("bean", new RootBeanDefinition(type), type);
+    }
+}
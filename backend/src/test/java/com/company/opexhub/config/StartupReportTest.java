@@ -0,0 +1,41 @@
+package com.company.opexhub.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * The report logs the first successful initiatives response once, ignoring other paths and failed
+ * attempts before it.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class StartupReportTest {
+
+    private static final String FIRST_RESPONSE = "Startup: first /api/initiatives response";
+
+    @Test
+    void firstSuccessfulInitiativesResponseIsLoggedOnce(CapturedOutput output) throws Exception {
+        StartupReport report = new StartupReport();
+
+        request(report, "/api/dashboard", 200);
+        request(report, "/api/initiatives", 401);
+        assertThat(output.getOut()).doesNotContain(FIRST_RESPONSE);
+
+        request(report, "/api/initiatives", 200);
+        request(report, "/api/initiatives", 200);
+        assertThat(output.getOut().split(FIRST_RESPONSE, -1)).hasSize(2);
+    }
+
+    private static void request(StartupReport report, String path, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        report.doFilter(request, response, new MockFilterChain());
+    }
+}
@@ -0,0 +1,117 @@
+package com.company.opexhub.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.company.opexhub.service.AuthService;
+import com.company.opexhub.support.TestTokens;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sign-in runs on the hashing pool, and is answered 429 with Retry-After at once when the pool
+ * and its queue are full.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService hashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        hashingExecutor = (ExecutorService) ReflectionTestUtils.getField(authService, "hashingExecutor");
+    }
+
+    @AfterEach
+    void restoreExecutor() {
+        ReflectionTestUtils.setField(authService, "hashingExecutor", hashingExecutor);
+    }
+
+    @Test
+    void signInIsTimedOnTheHashingPool() throws Exception {
+        long before = meterRegistry.get("auth.hashing.duration").tag("operation", "signin").timer().count();
+
+        signIn("password123")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").isNotEmpty())
+                .andExpect(jsonPath("$.data.user.email").value(TestTokens.DEFAULT_EMAIL));
+        signIn("wrong-password")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid credentials!"));
+
+        assertThat(meterRegistry.get("auth.hashing.duration").tag("operation", "signin").timer().count())
+                .isEqualTo(before + 2);
+    }
+
+    @Test
+    void fullPoolAnswers429() throws Exception {
+        // One busy thread and one queued task fill a pool of one with a queue of one
+        ThreadPoolExecutor full = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            full.execute(() -> await(release));
+            full.execute(() -> await(release));
+            ReflectionTestUtils.setField(authService, "hashingExecutor", full);
+
+            signIn("password123")
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                    .andExpect(jsonPath("$.success").value(false));
+        } finally {
+            release.countDown();
+            full.shutdown();
+        }
+    }
+
+    private ResultActions signIn(String password) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/auth/signin").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + TestTokens.DEFAULT_EMAIL + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
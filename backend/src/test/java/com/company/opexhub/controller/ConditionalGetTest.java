@@ -0,0 +1,92 @@
+package com.company.opexhub.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.service.InitiativeService;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * Read endpoints answer a revalidation with 304 until the data or the request variant changes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+    }
+
+    @Test
+    void revalidationIsNotModifiedUntilDataChanges() throws Exception {
+        String etag = etag("0");
+        assertThat(etag).startsWith("W/\"");
+
+        mockMvc.perform(get("/api/initiatives").param("page", "0")
+                        .header(HttpHeaders.AUTHORIZATION, token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        initiativeService.createInitiative(TestInitiatives.request("Conditional GET check", "NDS"), userId);
+
+        mockMvc.perform(get("/api/initiatives").param("page", "0")
+                        .header(HttpHeaders.AUTHORIZATION, token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertThat(etag("0")).isNotEqualTo(etag);
+    }
+
+    @Test
+    void eachPageHasItsOwnEtag() throws Exception {
+        assertThat(etag("0")).isNotEqualTo(etag("1"));
+    }
+
+    @Test
+    void versionIndexesUseColumnNames() {
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS"
+                        + " WHERE INDEX_NAME = 'IDX_TIMELINE_ENTRIES_INITIATIVE_UPDATED' ORDER BY ORDINAL_POSITION",
+                String.class);
+        assertThat(columns).containsExactly("INITIATIVE_ID", "UPDATED_AT");
+    }
+
+    private String etag(String page) throws Exception {
+        return mockMvc.perform(get("/api/initiatives").param("page", page).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,186 @@
+package com.company.opexhub.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.company.opexhub.dto.InitiativeImportResult;
+import com.company.opexhub.dto.InitiativeSummary;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.repository.WorkflowTransactionRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.service.InitiativeImportService;
+import com.company.opexhub.service.InitiativeService;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * Imports write valid rows in chunks and report the invalid ones by row number, from CSV (with or
+ * without a byte-order mark) or NDJSON, and number their initiatives around ones created while the import runs.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InitiativeImportTest {
+
+    private static final String HEADER = "title,description,priority,expectedSavings,site,discipline,initiatorName\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private InitiativeImportService initiativeImportService;
+
+    @Autowired
+    private WorkflowTransactionRepository workflowTransactionRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+    }
+
+    @Test
+    void csvImportWritesValidRowsAndReportsTheRest() throws Exception {
+        String csv = HEADER
+                + "CSV import 1,\"Quoted, with comma\",High,1000,NDS,Operation,Importer\n"
+                + "CSV import 2,Plain,Medium,2000,DHJ,Operation,Importer\n"
+                + ",No title,High,3000,NDS,Operation,Importer\n"
+                + "CSV import 4,Plain,Low,4000,NDS,Operation,Importer\n"
+                + "CSV import 5,Plain,High,5000,XYZ,Operation,Importer\n"
+                + "CSV import 6,\"Line\nbreak\",High,6000,NDS,Operation,Importer\n";
+
+        mockMvc.perform(post("/api/initiatives/import").param("chunkSize", "2")
+                        .contentType(InitiativeImportService.CSV).content(csv)
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(6))
+                .andExpect(jsonPath("$.data.imported").value(4))
+                .andExpect(jsonPath("$.data.failed").value(2))
+                .andExpect(jsonPath("$.data.errors[0].row").value(3))
+                .andExpect(jsonPath("$.data.errors[1].row").value(5));
+
+        List<InitiativeSummary> imported = initiativeService
+                .searchInitiativeSummaries(null, null, "CSV import", Pageable.unpaged()).getContent();
+        assertThat(imported).extracting(InitiativeSummary::getTitle)
+                .containsExactlyInAnyOrder("CSV import 1", "CSV import 2", "CSV import 4", "CSV import 6");
+        Set<String> numbers = new HashSet<>();
+        for (InitiativeSummary initiative : imported) {
+            assertThat(numbers.add(initiative.getInitiativeNumber())).isTrue();
+            assertThat(workflowTransactionRepository.findByInitiativeIdOrderByStageNumber(initiative.getId()))
+                    .isNotEmpty();
+        }
+    }
+
+    @Test
+    void csvWithByteOrderMarkIsRead() throws Exception {
+        String csv = "\uFEFF" + HEADER
+                + "BOM import 1,Plain,High,1000,NDS,Operation,Importer\n";
+
+        mockMvc.perform(post("/api/initiatives/import")
+                        .contentType(InitiativeImportService.CSV)
+                        .content(csv.getBytes(StandardCharsets.UTF_8))
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(1))
+                .andExpect(jsonPath("$.data.imported").value(1))
+                .andExpect(jsonPath("$.data.failed").value(0));
+
+        assertThat(initiativeService.searchInitiativeSummaries(null, null, "BOM import", Pageable.unpaged())
+                .getContent()).extracting(InitiativeSummary::getTitle).containsExactly("BOM import 1");
+    }
+
+    @Test
+    void ndjsonImportReportsUnreadableLines() throws Exception {
+        String ndjson = "{\"title\":\"NDJSON import 1\",\"priority\":\"High\",\"expectedSavings\":1000,"
+                + "\"site\":\"NDS\",\"discipline\":\"Operation\",\"initiatorName\":\"Importer\"}\n"
+                + "{not json}\n"
+                + "\n"
+                + "{\"title\":\"NDJSON import 2\",\"priority\":\"High\",\"expectedSavings\":2000,"
+                + "\"site\":\"DHJ\",\"discipline\":\"Operation\",\"initiatorName\":\"Importer\"}\n";
+
+        mockMvc.perform(post("/api/initiatives/import")
+                        .contentType(InitiativeImportService.NDJSON).content(ndjson)
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(3))
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2));
+
+        assertThat(initiativeService.searchInitiativeSummaries(null, null, "NDJSON import", Pageable.unpaged())
+                .getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void initiativeCreatedBetweenChunksDoesNotFailLaterChunks() throws Exception {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        String row = "{\"title\":\"Interleaved import %d\",\"priority\":\"High\",\"expectedSavings\":1000,"
+                + "\"site\":\"NDS\",\"discipline\":\"Operation\",\"initiatorName\":\"Importer\"}\n";
+        InputStream first = new ByteArrayInputStream(String.format(row, 1).getBytes(StandardCharsets.UTF_8));
+        // Read only once the first chunk has committed; creates an initiative for the same site first
+        InputStream rest = new InputStream() {
+            private InputStream remaining;
+
+            @Override
+            public int read() throws IOException {
+                return open().read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                return open().read(buffer, offset, length);
+            }
+
+            private InputStream open() {
+                if (remaining == null) {
+                    initiativeService.createInitiative(TestInitiatives.request("Created during import", "NDS"), userId);
+                    remaining = new ByteArrayInputStream((String.format(row, 2) + String.format(row, 3))
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                return remaining;
+            }
+        };
+
+        InitiativeImportResult result = initiativeImportService.importInitiatives(
+                new SequenceInputStream(first, rest), InitiativeImportService.NDJSON, 1, userId);
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getImported()).isEqualTo(3);
+        Set<String> numbers = new HashSet<>();
+        for (InitiativeSummary initiative : initiativeService
+                .searchInitiativeSummaries(null, null, "Interleaved import", Pageable.unpaged()).getContent()) {
+            assertThat(numbers.add(initiative.getInitiativeNumber())).isTrue();
+        }
+        assertThat(numbers).hasSize(3);
+    }
+}
@@ -0,0 +1,74 @@
+package com.company.opexhub.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.service.InitiativeService;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * List pages come from the summary projection, which leaves out the TEXT columns; clients that
+ * show the description ask for it with ?fields=.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InitiativeListTest {
+
+    private static final String TITLE = "Summary projection check";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+        if (initiativeService.searchInitiativeSummaries(null, null, TITLE, Pageable.unpaged()).isEmpty()) {
+            Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+            initiativeService.createInitiative(TestInitiatives.request(TITLE, "NDS"), userId);
+        }
+    }
+
+    @Test
+    void defaultSummaryLeavesOutDescription() throws Exception {
+        mockMvc.perform(get("/api/initiatives").param("search", TITLE).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value(TITLE))
+                .andExpect(jsonPath("$.content[0].createdByName").value("Manoj Tiwari"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+    }
+
+    @Test
+    void sparseFieldsReturnDescriptionWhenAskedFor() throws Exception {
+        mockMvc.perform(get("/api/initiatives").param("search", TITLE).param("fields", "id,title,description")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].description").value("Description of " + TITLE))
+                .andExpect(jsonPath("$.content[0].site").doesNotExist());
+    }
+}
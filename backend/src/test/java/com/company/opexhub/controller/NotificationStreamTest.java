@@ -0,0 +1,80 @@
+package com.company.opexhub.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.support.TestTokens;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The event stream is opened with a single-use ticket; the session JWT is never taken from the
+ * query string.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class NotificationStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+    }
+
+    @Test
+    void sessionTokenInQueryStringIsRefused() throws Exception {
+        mockMvc.perform(get(NotificationController.STREAM_PATH).param("access_token", token.substring(7)))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void ticketOpensOneStream() throws Exception {
+        String ticket = ticket();
+
+        mockMvc.perform(get(NotificationController.STREAM_PATH).param(NotificationController.TICKET_PARAM, ticket))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(get(NotificationController.STREAM_PATH).param(NotificationController.TICKET_PARAM, ticket))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void ticketIsOnlyAcceptedOnTheStream() throws Exception {
+        mockMvc.perform(get("/api/initiatives").param(NotificationController.TICKET_PARAM, ticket()))
+                .andExpect(status().is4xxClientError());
+    }
+
+    private String ticket() throws Exception {
+        String body = mockMvc.perform(post("/api/notifications/stream-ticket").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(body);
+        return json.get("data").get(NotificationController.TICKET_PARAM).asText();
+    }
+}
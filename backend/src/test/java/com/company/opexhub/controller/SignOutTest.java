@@ -0,0 +1,90 @@
+package com.company.opexhub.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.company.opexhub.entity.RevokedToken;
+import com.company.opexhub.repository.RevokedTokenRepository;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.service.TokenRevocationService;
+import com.company.opexhub.support.TestTokens;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Signing out revokes that token alone; revocations stored by another node are honoured after the
+ * refresh, which also purges those past their expiry.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SignOutTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void signedOutTokenIsRefusedAndOthersAreNot() throws Exception {
+        String token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+        String other = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+        expect(token, status().isOk());
+
+        mockMvc.perform(post("/api/auth/signout").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+        expect(token, status().isUnauthorized());
+        expect(other, status().isOk());
+
+        // Still refused once the filter is rebuilt from the table
+        tokenRevocationService.refresh();
+        expect(token, status().isUnauthorized());
+        expect(other, status().isOk());
+    }
+
+    @Test
+    void refreshPicksUpOtherNodesAndPurgesExpired() {
+        Claims claims = tokenProvider.parseClaims(
+                TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL).substring(7));
+        String expiredJti = UUID.randomUUID().toString();
+
+        // Written as another node would, without this node's filter seeing it
+        revokedTokenRepository.save(new RevokedToken(claims.getId(), 1L, LocalDateTime.now().plusHours(1)));
+        revokedTokenRepository.save(new RevokedToken(expiredJti, 1L, LocalDateTime.now().minusMinutes(1)));
+        assertThat(tokenRevocationService.isRevoked(claims)).isFalse();
+
+        tokenRevocationService.refresh();
+        assertThat(tokenRevocationService.isRevoked(claims)).isTrue();
+        assertThat(revokedTokenRepository.existsByJti(expiredJti)).isFalse();
+    }
+
+    private void expect(String token, ResultMatcher result) throws Exception {
+        mockMvc.perform(get("/api/users/typeahead").param("q", "sign out").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(result);
+    }
+}
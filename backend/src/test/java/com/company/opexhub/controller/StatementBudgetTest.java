@@ -0,0 +1,123 @@
+package com.company.opexhub.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.company.opexhub.config.SqlStatementCounter;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.service.DashboardService;
+import com.company.opexhub.service.InitiativeService;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * The SQL statements behind the list, dashboard and monitoring upsert requests do not grow with the
+ * rows they return or write, apart from the change feed ids. The test profile also turns an
+ * exceeded @QueryBudget into a failed request.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String token;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+        userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+    }
+
+    @Test
+    void initiativeListPageRunsAFixedNumberOfStatements() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            initiativeService.createInitiative(TestInitiatives.request("Budgeted list " + i, "NDS"), userId);
+        }
+
+        // Version check, page and count
+        assertThat(statements(get("/api/initiatives").param("search", "Budgeted list").param("size", "10")))
+                .isEqualTo(3);
+        assertThat(statements(get("/api/initiatives").param("search", "Budgeted list").param("size", "10")
+                .param("fields", "id,title,description"))).isEqualTo(3);
+    }
+
+    @Test
+    void dashboardIsServedFromMemoryOnceBuilt() throws Exception {
+        dashboardService.rebuild();
+        assertThat(statements(get("/api/dashboard"))).isZero();
+        assertThat(statements(get("/api/dashboard").param("site", "NDS"))).isZero();
+        // Stale cells are recounted in the background, not by the request that finds them
+        dashboardService.markStale();
+        assertThat(statements(get("/api/dashboard"))).isZero();
+    }
+
+    @Test
+    void monitoringUpsertCostsOneChangeFeedIdPerRow() throws Exception {
+        Long initiativeId = initiativeService.createInitiative(
+                TestInitiatives.request("Budgeted upsert", "NDS"), userId).getId();
+        String few = "/api/monthly-monitoring/" + initiativeId + "/month/2024-03";
+        String many = "/api/monthly-monitoring/" + initiativeId + "/month/2024-04";
+        statements(put(few).contentType(MediaType.APPLICATION_JSON).content(rows(3, 100)));
+        statements(put(many).contentType(MediaType.APPLICATION_JSON).content(rows(40, 100)));
+
+        // Updating existing rows: two loads, one batched update and one batched change log insert,
+        // plus a change_log_seq call per row, as the feed cursor cannot take ids in blocks
+        int forFew = statements(put(few).contentType(MediaType.APPLICATION_JSON).content(rows(3, 200)));
+        int forMany = statements(put(many).contentType(MediaType.APPLICATION_JSON).content(rows(40, 200)));
+        assertThat(forFew).isEqualTo(4 + 3);
+        assertThat(forMany - forFew).isEqualTo(40 - 3);
+    }
+
+    private static String rows(int count, int achieved) {
+        StringBuilder json = new StringBuilder("{\"entries\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"kpiDescription\":\"KPI ").append(i).append("\",\"targetValue\":1000,\"achievedValue\":")
+                    .append(achieved).append(",\"enteredBy\":\"Tester\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Statements the request ran, failing on any SELECT repeated per row.
+     */
+    private int statements(MockHttpServletRequestBuilder request) throws Exception {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, token)).andExpect(status().isOk());
+            scope.assertNoRepeatedSelects(2);
+            return scope.getCount();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.company.opexhub.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.TimelineEntry;
+import com.company.opexhub.entity.TimelineTask;
+import com.company.opexhub.repository.TimelineEntryRepository;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.service.InitiativeService;
+import com.company.opexhub.service.TimelineGanttService;
+import com.company.opexhub.service.TimelineTaskService;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The site Gantt streams each initiative once with its entries and tasks in the window, by start
+ * date, and leaves out initiatives the caller may not open. Uses 2032, which no other test writes to.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TimelineGanttTest {
+
+    private static final LocalDate FROM = LocalDate.of(2032, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2032, 3, 31);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TimelineGanttService timelineGanttService;
+
+    @Autowired
+    private TimelineTaskService timelineTaskService;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String token;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+        userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+    }
+
+    @Test
+    void ganttGroupsItemsByInitiativeInStartOrder() throws Exception {
+        Initiative first = initiativeService.createInitiative(TestInitiatives.request("Gantt first", "NDS"), userId);
+        Initiative second = initiativeService.createInitiative(TestInitiatives.request("Gantt second", "NDS"), userId);
+        TimelineTask task = timelineTaskService.createTask(new TimelineTask("Build", null,
+                LocalDate.of(2032, 2, 1), LocalDate.of(2032, 2, 20), "Owner", "Owner", first));
+        TimelineEntry entry = timelineEntryRepository.save(new TimelineEntry(first, "Plan",
+                LocalDate.of(2031, 12, 1), LocalDate.of(2032, 1, 15), "Owner"));
+        timelineTaskService.createTask(new TimelineTask("Outside", null,
+                LocalDate.of(2032, 5, 1), LocalDate.of(2032, 5, 2), "Owner", "Owner", first));
+        TimelineTask other = timelineTaskService.createTask(new TimelineTask("Other", null,
+                LocalDate.of(2032, 3, 31), null, "Owner", "Owner", second));
+
+        JsonNode all = write(null).get("data");
+        List<JsonNode> initiatives = initiatives(all, first.getId(), second.getId());
+        assertThat(initiatives).hasSize(2);
+        JsonNode items = initiatives.get(0).get("items");
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).get("type").asText()).isEqualTo("ENTRY");
+        assertThat(items.get(0).get("id").asLong()).isEqualTo(entry.getId());
+        assertThat(items.get(0).get("startDate").asText()).isEqualTo("2031-12-01");
+        assertThat(items.get(1).get("type").asText()).isEqualTo("TASK");
+        assertThat(items.get(1).get("id").asLong()).isEqualTo(task.getId());
+        assertThat(items.get(1).get("progressPercentage").asInt()).isZero();
+        // A task with one date is drawn as that day
+        JsonNode single = initiatives.get(1).get("items").get(0);
+        assertThat(single.get("id").asLong()).isEqualTo(other.getId());
+        assertThat(single.get("endDate").asText()).isEqualTo("2032-03-31");
+
+        JsonNode allowed = write(Collections.singleton(second.getId())).get("data");
+        assertThat(initiatives(allowed, first.getId(), second.getId()))
+                .extracting(initiative -> initiative.get("id").asLong()).containsExactly(second.getId());
+        assertThat(allowed.get("initiativeCount").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    void ganttEndpointAppliesTheTimelineAccessRule() throws Exception {
+        Initiative initiative = initiativeService.createInitiative(TestInitiatives.request("Gantt access", "NDS"), userId);
+        timelineTaskService.createTask(new TimelineTask("Hidden", null,
+                LocalDate.of(2032, 1, 5), LocalDate.of(2032, 1, 6), "Owner", "Owner", initiative));
+
+        // Stage 6 of a new initiative is not approved, so its timeline is not open to anyone yet. The
+        // filter only sets userEmail in claims-only mode, so the request carries it here
+        String body = mockMvc.perform(get("/api/timeline-tracker/gantt").param("site", "NDS")
+                        .param("from", FROM.toString()).param("to", TO.toString())
+                        .requestAttr("userEmail", TestTokens.DEFAULT_EMAIL)
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(initiatives(objectMapper.readTree(body).get("data"), initiative.getId())).isEmpty();
+
+        mockMvc.perform(get("/api/timeline-tracker/gantt").param("site", "NDS")
+                        .param("from", TO.toString()).param("to", FROM.toString())
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    private JsonNode write(Set<Long> allowed) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        timelineGanttService.writeGantt("NDS", FROM, TO, null, null, allowed, out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+
+    /**
+     * The listed initiatives among these ids, in the order the Gantt wrote them.
+     */
+    private static List<JsonNode> initiatives(JsonNode data, Long... ids) {
+        List<Long> wanted = Arrays.asList(ids);
+        List<JsonNode> found = new ArrayList<>();
+        for (JsonNode initiative : data.get("initiatives")) {
+            if (wanted.contains(initiative.get("id").asLong())) {
+                found.add(initiative);
+            }
+        }
+        return found;
+    }
+}
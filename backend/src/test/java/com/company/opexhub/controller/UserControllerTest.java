@@ -0,0 +1,69 @@
+package com.company.opexhub.controller;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.company.opexhub.entity.User;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * User lists return summaries only, and the typeahead splits what is typed the way it splits names
+ * and emails.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerTest {
+
+    private static final String EMAIL = "jose.oneil@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL);
+        if (!userRepository.findByEmail(EMAIL).isPresent()) {
+            userRepository.save(new User("José O'Neil", EMAIL, "secret-hash", "NDS", "Quality", "STLD", "Site TSD Lead"));
+        }
+    }
+
+    @Test
+    void disciplineListLeavesOutCredentials() throws Exception {
+        mockMvc.perform(get("/api/users/site/NDS/discipline/Quality").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].email", hasItem(EMAIL)))
+                .andExpect(jsonPath("$[0].password").doesNotExist())
+                .andExpect(jsonPath("$[0].tokenVersion").doesNotExist());
+    }
+
+    @Test
+    void typeaheadMatchesPunctuatedNames() throws Exception {
+        for (String query : new String[]{"o'neil", "jose o'n", "O'NEIL", "jose.oneil@ex", "oneil@example"}) {
+            mockMvc.perform(get("/api/users/typeahead").param("q", query).header(HttpHeaders.AUTHORIZATION, token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].email", hasItem(EMAIL)));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.company.opexhub.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.config.SqlStatementCounter;
+import com.company.opexhub.entity.User;
+import com.company.opexhub.entity.WfMaster;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * Users and workflow masters are served from the second-level and query caches after the first
+ * read, and writes made through JPA are visible to the next read.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private WfMasterRepository wfMasterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void repeatedReadsRunNoSql() {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        userRepository.findById(userId);
+        wfMasterRepository.findBySiteAndIsActiveOrderByStageNumber("NDS", true);
+
+        // Uncached for contrast
+        assertThat(statements(wfMasterRepository::count)).isEqualTo(1);
+        assertThat(statements(() -> userRepository.findById(userId))).isZero();
+        assertThat(statements(() -> userRepository.findByEmail(TestTokens.DEFAULT_EMAIL))).isZero();
+        assertThat(statements(() -> wfMasterRepository.findBySiteAndIsActiveOrderByStageNumber("NDS", true))).isZero();
+    }
+
+    @Test
+    void writesInvalidateCachedQueriesAndEntities() {
+        String site = "L2C";
+        assertThat(wfMasterRepository.findBySiteAndIsActiveOrderByStageNumber(site, true)).isEmpty();
+
+        WfMaster stage = wfMasterRepository.save(new WfMaster(1, "Register", "STLD", site, "l2c@example.com"));
+        List<WfMaster> stages = wfMasterRepository.findBySiteAndIsActiveOrderByStageNumber(site, true);
+        assertThat(stages).extracting(WfMaster::getId).containsExactly(stage.getId());
+
+        User user = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get();
+        String fullName = user.getFullName();
+        try {
+            user.setFullName(fullName + " (cached)");
+            userRepository.save(user);
+            assertThat(userRepository.findById(user.getId()).get().getFullName()).isEqualTo(fullName + " (cached)");
+        } finally {
+            user.setFullName(fullName);
+            userRepository.save(user);
+        }
+    }
+
+    private static int statements(Supplier<?> call) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            call.get();
+            return scope.getCount();
+        }
+    }
+}
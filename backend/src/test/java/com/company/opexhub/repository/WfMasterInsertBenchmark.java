@@ -0,0 +1,150 @@
+package com.company.opexhub.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.company.opexhub.entity.WfMaster;
+import com.zaxxer.hikari.HikariDataSource;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Rows per second for saveAll of WfMaster rows in one transaction: the pooled-lo sequence ids and
+ * JDBC batching from application.yml against the IDENTITY ids used before, which Hibernate cannot
+ * batch because it needs each generated key back. Measured on an embedded database and on one
+ * reached over TCP. Each mode gets a fresh in-memory database and a few warm-up rounds, then timed
+ * rounds alternate between the modes and the median is logged. Not part of the build, as its
+ * numbers depend on the machine; run with {@code mvn test -Dtest=WfMasterInsertBenchmark}.
+ */
+class WfMasterInsertBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(WfMasterInsertBenchmark.class);
+
+    private static final int ROWS = 20_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int ROUNDS = 7;
+
+    // Outside Spring Boot nothing sets log levels, and Hibernate's per-statement debug output would be timed too
+    @BeforeAll
+    static void quietHibernate() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("org.hibernate")).setLevel(Level.WARN);
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.zaxxer.hikari")).setLevel(Level.WARN);
+    }
+
+    @Test
+    void embedded() {
+        compare("jdbc:h2:mem:");
+    }
+
+    // Over a socket every statement or batch costs a round trip, as with a database on another host
+    @Test
+    void overTcp() throws SQLException {
+        Server server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        try {
+            compare("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:");
+        } finally {
+            server.stop();
+        }
+    }
+
+    private void compare(String urlPrefix) {
+        HikariDataSource identityDataSource = dataSource(urlPrefix + "benchmark-identity");
+        HikariDataSource pooledLoDataSource = dataSource(urlPrefix + "benchmark-pooled-lo");
+        try (SessionFactory identity = sessionFactory(identityDataSource, true);
+             SessionFactory pooledLo = sessionFactory(pooledLoDataSource, false)) {
+            // Rounds alternate between the modes so JIT warm-up and machine noise fall on both alike
+            long[] identityNanos = new long[ROUNDS];
+            long[] pooledLoNanos = new long[ROUNDS];
+            for (int round = -WARM_UP_ROUNDS; round < ROUNDS; round++) {
+                long identityElapsed = saveAll(identity, round);
+                long pooledLoElapsed = saveAll(pooledLo, round);
+                if (round >= 0) {
+                    identityNanos[round] = identityElapsed;
+                    pooledLoNanos[round] = pooledLoElapsed;
+                }
+            }
+            double identityRate = rowsPerSecond(identityNanos);
+            double pooledLoRate = rowsPerSecond(pooledLoNanos);
+            logger.info("saveAll of {} WfMaster rows on {}: IDENTITY {} rows/s, pooled-lo with batching {} rows/s ({}x)",
+                    ROWS, urlPrefix, Math.round(identityRate), Math.round(pooledLoRate),
+                    String.format("%.1f", pooledLoRate / identityRate));
+        } finally {
+            identityDataSource.close();
+            pooledLoDataSource.close();
+        }
+    }
+
+    private static HikariDataSource dataSource(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        return dataSource;
+    }
+
+    private static SessionFactory sessionFactory(HikariDataSource dataSource, boolean identity) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.datasource", dataSource)
+                .applySetting("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+                .applySetting("hibernate.hbm2ddl.auto", "create-drop")
+                .applySetting("hibernate.id.optimizer.pooled.preferred", "pooled-lo")
+                .applySetting("hibernate.jdbc.batch_size", "50")
+                .applySetting("hibernate.jdbc.batch_versioned_data", "true")
+                .applySetting("hibernate.order_inserts", "true")
+                .build();
+        MetadataSources sources = new MetadataSources(registry).addAnnotatedClass(WfMaster.class);
+        if (identity) {
+            sources.addResource("benchmark/wf-master-identity.xml");
+        }
+        SessionFactory sessionFactory = sources.buildMetadata().buildSessionFactory();
+        EntityPersister persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMetamodel().entityPersister(WfMaster.class);
+        assertThat(persister.getIdentifierGenerator() instanceof IdentityGenerator).isEqualTo(identity);
+        return sessionFactory;
+    }
+
+    // Median of the timed rounds
+    private static double rowsPerSecond(long[] nanos) {
+        Arrays.sort(nanos);
+        return ROWS * 1e9 / nanos[nanos.length / 2];
+    }
+
+    private long saveAll(SessionFactory sessionFactory, int round) {
+        List<WfMaster> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new WfMaster(i % 15 + 1, "Stage " + i, "ROLE", "SITE" + round, "user" + i + "@example.com"));
+        }
+        EntityManager entityManager = sessionFactory.createEntityManager();
+        try {
+            SimpleJpaRepository<WfMaster, Long> repository = new SimpleJpaRepository<>(WfMaster.class, entityManager);
+            long start = System.nanoTime();
+            entityManager.getTransaction().begin();
+            repository.saveAll(rows);
+            entityManager.getTransaction().commit();
+            long elapsed = System.nanoTime() - start;
+            assertThat(rows.get(ROWS - 1).getId()).isNotNull();
+            return elapsed;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.company.opexhub.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.company.opexhub.entity.WfMaster;
+
+/**
+ * Pooled-lo sequence ids let Hibernate batch inserts: rows cost one sequence call per 50 ids and one
+ * JDBC batch per 50 inserts, rather than a round trip each. Counted at the JDBC driver.
+ */
+@DataJpaTest
+class WfMasterRepositoryTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private WfMasterRepository wfMasterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcCalls jdbcCalls;
+
+    @BeforeEach
+    void setUp() {
+        jdbcCalls.reset();
+    }
+
+    @Test
+    void saveAllInsertsInBatches() {
+        List<WfMaster> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new WfMaster(i % 15 + 1, "Stage " + i, "ROLE", "SITE" + i, "user" + i + "@example.com"));
+        }
+
+        wfMasterRepository.saveAll(rows);
+        entityManager.flush();
+
+        // Batches of 50, 50 and 20; the only other calls fetch sequence blocks of 50 ids, fewer if
+        // an earlier test left part of a block unused
+        assertThat(jdbcCalls.batches.get()).isEqualTo(3);
+        assertThat(jdbcCalls.singles.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void idsComeFromOneSequenceBlock() {
+        List<WfMaster> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(new WfMaster(1, "Stage", "ROLE", "SITE" + i, "user@example.com"));
+        }
+
+        wfMasterRepository.saveAll(rows);
+
+        long first = rows.get(0).getId();
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(rows.get(i).getId()).isEqualTo(first + i);
+        }
+        assertThat(jdbcCalls.singles.get()).isLessThanOrEqualTo(1);
+        assertThat(jdbcCalls.batches.get()).isZero();
+    }
+
+    /**
+     * Counts executeBatch calls and single statement executions on the test DataSource.
+     */
+    static class JdbcCalls {
+        final AtomicInteger batches = new AtomicInteger();
+        final AtomicInteger singles = new AtomicInteger();
+
+        void reset() {
+            batches.set(0);
+            singles.set(0);
+        }
+    }
+
+    @TestConfiguration
+    static class JdbcCallsConfig {
+
+        @Bean
+        JdbcCalls jdbcCalls() {
+            return new JdbcCalls();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSource(final ObjectProvider<JdbcCalls> calls) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource)) {
+                        return bean;
+                    }
+                    return proxy(DataSource.class, bean, (target, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        return result instanceof Connection ? connection((Connection) result, calls.getObject()) : result;
+                    });
+                }
+            };
+        }
+
+        private static Connection connection(Connection connection, JdbcCalls calls) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Statement ? statement((Statement) result, calls) : result;
+            });
+        }
+
+        private static Statement statement(Statement statement, JdbcCalls calls) {
+            Class<? extends Statement> type = statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+            return proxy(type, statement, (target, method, args) -> {
+                if (method.getName().equals("executeBatch")) {
+                    calls.batches.incrementAndGet();
+                } else if (method.getName().startsWith("execute")) {
+                    calls.singles.incrementAndGet();
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        private interface Call {
+            Object apply(Object target, Method method, Object[] args) throws Throwable;
+        }
+
+        private static <T> T proxy(Class<T> type, Object target, Call call) {
+            InvocationHandler handler = (p, method, args) -> call.apply(target, method, args);
+            return type.cast(Proxy.newProxyInstance(WfMasterRepositoryTest.class.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.company.opexhub.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.company.opexhub.entity.User;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.service.TokenVersionService;
+import com.company.opexhub.support.TestTokens;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * In claims-only mode a token stops working once its user's role changes, here or on another
+ * node, while tokens issued before profile claims fall back to the user lookup. The mode is
+ * switched on the shared context's beans rather than in a context of its own, which would share
+ * the in-memory database and cache manager.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ClaimsPrincipalTest {
+
+    private static final String EMAIL = "claims.principal@example.com";
+
+    // Changed behind the second-level cache, so kept apart from the user the other tests edit
+    private static final String REMOTE_EMAIL = "claims.remote@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @BeforeEach
+    void setUp() {
+        claimsPrincipal(true);
+    }
+
+    @AfterEach
+    void restoreMode() {
+        claimsPrincipal(false);
+    }
+
+    @Test
+    void roleChangeRetiresEarlierTokens() throws Exception {
+        User user = user(EMAIL);
+        String before = TestTokens.bearer(tokenProvider, userRepository, EMAIL);
+        expect(before, status().isOk());
+
+        user.setRole("STLD".equals(user.getRole()) ? "SH" : "STLD");
+        userRepository.save(user);
+        expect(before, status().isUnauthorized());
+        expect(TestTokens.bearer(tokenProvider, userRepository, EMAIL), status().isOk());
+
+        // The default mode looks the user up on every request and does not check versions
+        claimsPrincipal(false);
+        expect(before, status().isOk());
+    }
+
+    @Test
+    void versionsBumpedOnAnotherNodeArriveWithTheRefresh() throws Exception {
+        User user = user(REMOTE_EMAIL);
+        String token = TestTokens.bearer(tokenProvider, userRepository, REMOTE_EMAIL);
+        int version = tokenVersionService.currentVersion(user.getId());
+        jdbcTemplate.update("update users set token_version = ? where id = ?", version + 1, user.getId());
+        expect(token, status().isOk());
+
+        tokenVersionService.refresh();
+        expect(token, status().isUnauthorized());
+    }
+
+    @Test
+    void tokensWithoutProfileClaimsFallBackToTheLookup() throws Exception {
+        String legacy = Jwts.builder().setSubject(String.valueOf(user(EMAIL).getId()))
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS512, jwtSecret)
+                .compact();
+        expect("Bearer " + legacy, status().isOk());
+    }
+
+    private User user(String email) {
+        return userRepository.findByEmail(email).orElseGet(() -> userRepository.save(
+                new User("Claims Principal", email, "secret-hash", "NDS", "Quality", "STLD", "Site TSD Lead")));
+    }
+
+    private void expect(String token, ResultMatcher result) throws Exception {
+        mockMvc.perform(get("/api/users/typeahead").param("q", "claims").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(result);
+    }
+
+    private void claimsPrincipal(boolean enabled) {
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "claimsPrincipal", enabled);
+        ReflectionTestUtils.setField(tokenVersionService, "claimsPrincipal", enabled);
+    }
+}
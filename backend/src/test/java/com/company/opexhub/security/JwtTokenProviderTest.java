@@ -0,0 +1,71 @@
+package com.company.opexhub.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestTokens;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * One parse verifies a token and yields its claims, for tokens signed with the decoded key and
+ * for those signed with the secret string before it was decoded once at startup.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtTokenProviderTest {
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Test
+    void issuedAndLegacyTokensVerify() {
+        String token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL).substring(7);
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Claims claims = tokenProvider.parseClaims(token);
+        assertThat(claims.getSubject()).isEqualTo(String.valueOf(userId));
+        assertThat(tokenProvider.getPrincipalFromClaims(claims).getUsername()).isEqualTo(TestTokens.DEFAULT_EMAIL);
+
+        String legacy = Jwts.builder().setSubject("7")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS512, jwtSecret)
+                .compact();
+        assertThat(tokenProvider.parseClaims(legacy).getSubject()).isEqualTo("7");
+        assertThat(tokenProvider.getPrincipalFromClaims(tokenProvider.parseClaims(legacy))).isNull();
+    }
+
+    @Test
+    void invalidTokensYieldNoClaims() {
+        String token = TestTokens.bearer(tokenProvider, userRepository, TestTokens.DEFAULT_EMAIL).substring(7);
+        String tampered = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+        String expired = Jwts.builder().setSubject("7")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(SignatureAlgorithm.HS512, jwtSecret)
+                .compact();
+        String otherKey = Jwts.builder().setSubject("7")
+                .signWith(SignatureAlgorithm.HS512, "c29tZU90aGVyU2VjcmV0S2V5")
+                .compact();
+
+        assertThat(tokenProvider.parseClaims(tampered)).isNull();
+        assertThat(tokenProvider.parseClaims(expired)).isNull();
+        assertThat(tokenProvider.parseClaims(otherKey)).isNull();
+        assertThat(tokenProvider.parseClaims("not.a.token")).isNull();
+        assertThat(tokenProvider.validateToken("")).isFalse();
+    }
+}
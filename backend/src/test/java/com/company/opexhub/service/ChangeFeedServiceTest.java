@@ -0,0 +1,145 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.company.opexhub.dto.ChangeFeedResponse;
+import com.company.opexhub.dto.InitiativeSummary;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * The change feed hands out each changed entity once with its current state, lists deletions,
+ * never moves a cursor past a change whose commit is still in flight, and leaves out monitoring
+ * entries the user may not see.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ChangeFeedServiceTest {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private InitiativeDeletionService initiativeDeletionService;
+
+    @Autowired
+    private MonthlyMonitoringService monthlyMonitoringService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Test
+    void changesSinceCursorAreCollapsedPerEntity() throws Exception {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Long cursor = changeFeedService.getHeadCursor();
+
+        Initiative kept = initiativeService.createInitiative(TestInitiatives.request("Change feed kept", "NDS"), userId);
+        initiativeService.updateInitiative(kept.getId(), TestInitiatives.request("Change feed kept, renamed", "NDS"));
+        Initiative removed = initiativeService.createInitiative(TestInitiatives.request("Change feed removed", "NDS"), userId);
+        initiativeDeletionService.deleteInitiative(removed.getId());
+
+        ChangeFeedResponse changes = changeFeedService.getChangesSince(cursor, null, null, null);
+        assertThat(changes.getCursor()).isGreaterThan(cursor);
+        assertThat(changes.getInitiatives()).filteredOn(i -> i.getId().equals(kept.getId()))
+                .singleElement().extracting(InitiativeSummary::getTitle).isEqualTo("Change feed kept, renamed");
+        assertThat(changes.getInitiatives()).extracting(InitiativeSummary::getId).doesNotContain(removed.getId());
+        assertThat(changes.getDeleted()).anySatisfy(deletion -> {
+            assertThat(deletion.getType()).isEqualTo("initiative");
+            assertThat(deletion.getId()).isEqualTo(removed.getId());
+        });
+        assertThat(changes.getWorkflowTransactions())
+                .anySatisfy(transaction -> assertThat(transaction.getInitiativeId()).isEqualTo(kept.getId()));
+
+        // Nothing is handed out twice once the client moves to the new cursor
+        ChangeFeedResponse next = changeFeedService.getChangesSince(changes.getCursor(), null, null, null);
+        assertThat(next.getInitiatives()).extracting(InitiativeSummary::getId).doesNotContain(kept.getId());
+    }
+
+    @Test
+    void slowCommitIsNotSkippedByAPollingCursor() throws Exception {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Initiative monitored = initiativeService.createInitiative(
+                TestInitiatives.request("Change feed fast write", "NDS"), userId);
+        Long cursor = changeFeedService.getHeadCursor();
+
+        // An initiative write has taken its log ids, then waits in the commit behind a dashboard rebuild
+        ReentrantReadWriteLock commitLock =
+                (ReentrantReadWriteLock) ReflectionTestUtils.getField(dashboardService, "commitLock");
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        commitLock.writeLock().lock();
+        Future<Initiative> slow;
+        try {
+            slow = pool.submit(() -> initiativeService.createInitiative(
+                    TestInitiatives.request("Change feed slow commit", "NDS"), userId));
+            long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+            while (!commitLock.hasQueuedThreads()) {
+                assertThat(System.currentTimeMillis()).as("slow commit waiting").isLessThan(deadline);
+                Thread.sleep(10);
+            }
+
+            // A later write commits first, and the client polls well after it
+            MonthlyMonitoringEntry fast = monthlyMonitoringService.createMonitoringEntry(monitored.getId(),
+                    new MonthlyMonitoringEntry(null, YearMonth.of(2024, 2), "Savings", new BigDecimal("1000"), "Tester"));
+            Thread.sleep(1500);
+            ChangeFeedResponse during = changeFeedService.getChangesSince(cursor, null, null, null);
+            assertThat(during.getMonitoringEntries()).extracting(MonthlyMonitoringEntry::getId)
+                    .doesNotContain(fast.getId());
+            cursor = during.getCursor();
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+
+        try {
+            Long slowId = slow.get(1, TimeUnit.MINUTES).getId();
+            ChangeFeedResponse after = changeFeedService.getChangesSince(cursor, null, null, null);
+            assertThat(after.getInitiatives()).extracting(InitiativeSummary::getId).contains(slowId);
+            assertThat(after.getMonitoringEntries()).isNotEmpty();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void monitoringEntriesAreLimitedToSavingsMonitoringAccess() throws Exception {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Long cursor = changeFeedService.getHeadCursor();
+
+        // Stage 9 of a new initiative is not approved, so nobody has monitoring access to it yet
+        Initiative initiative = initiativeService.createInitiative(
+                TestInitiatives.request("Change feed monitoring", "NDS"), userId);
+        MonthlyMonitoringEntry entry = monthlyMonitoringService.createMonitoringEntry(initiative.getId(),
+                new MonthlyMonitoringEntry(null, YearMonth.of(2024, 1), "Savings", new BigDecimal("1000"), "Tester"));
+
+        ChangeFeedResponse denied = changeFeedService.getChangesSince(cursor, null, TestTokens.DEFAULT_EMAIL, "STLD");
+        assertThat(denied.getInitiatives()).extracting(InitiativeSummary::getId).contains(initiative.getId());
+        assertThat(denied.getMonitoringEntries()).extracting(MonthlyMonitoringEntry::getId)
+                .doesNotContain(entry.getId());
+
+        ChangeFeedResponse unfiltered = changeFeedService.getChangesSince(cursor, null, null, null);
+        assertThat(unfiltered.getMonitoringEntries()).extracting(MonthlyMonitoringEntry::getId)
+                .contains(entry.getId());
+    }
+}
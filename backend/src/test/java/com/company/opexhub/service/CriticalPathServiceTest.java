@@ -0,0 +1,165 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.company.opexhub.dto.CriticalPath;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.TimelineTask;
+import com.company.opexhub.entity.TimelineTaskDependency;
+import com.company.opexhub.repository.TimelineTaskDependencyRepository;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * A task edit that commits while a schedule is being rebuilt is not lost when the rebuild, which
+ * read the tasks before the edit, finishes; and two opposite links added at once cannot both commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CriticalPathServiceTest {
+
+    @Autowired
+    private CriticalPathService criticalPathService;
+
+    @Autowired
+    private TimelineTaskService timelineTaskService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private TimelineTaskDependencyRepository timelineTaskDependencyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void restoreRepository() {
+        ReflectionTestUtils.setField(criticalPathService, "timelineTaskDependencyRepository",
+                timelineTaskDependencyRepository);
+    }
+
+    @Test
+    void rebuildOlderThanACommittedEditIsNotCached() throws Exception {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Initiative initiative = initiativeService.createInitiative(
+                TestInitiatives.request("Critical path race", "NDS"), userId);
+        LocalDate start = LocalDate.now().plusDays(10);
+        TimelineTask task = timelineTaskService.createTask(
+                new TimelineTask("Edited", null, start, start.plusDays(4), "Owner", "Owner", initiative));
+        Long initiativeId = initiative.getId();
+
+        // The rebuild reads the tasks, then waits in the dependency query until the edit has committed
+        CountDownLatch tasksRead = new CountDownLatch(1);
+        CountDownLatch editCommitted = new CountDownLatch(1);
+        TimelineTaskDependencyRepository paused = mock(TimelineTaskDependencyRepository.class,
+                AdditionalAnswers.delegatesTo(timelineTaskDependencyRepository));
+        doAnswer(invocation -> {
+            tasksRead.countDown();
+            editCommitted.await(1, TimeUnit.MINUTES);
+            return timelineTaskDependencyRepository.findByInitiativeId(invocation.getArgument(0));
+        }).when(paused).findByInitiativeId(anyLong());
+        ReflectionTestUtils.setField(criticalPathService, "timelineTaskDependencyRepository", paused);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<CriticalPath> rebuild = pool.submit(() -> criticalPathService.getCriticalPath(initiativeId));
+            assertThat(tasksRead.await(1, TimeUnit.MINUTES)).isTrue();
+
+            LocalDate end = start.plusDays(20);
+            TimelineTask details = new TimelineTask(task.getTitle(), null, start, end, "Owner", "Owner", null);
+            details.setStatus(task.getStatus());
+            details.setProgressPercentage(task.getProgressPercentage());
+            timelineTaskService.updateTask(task.getId(), details);
+            editCommitted.countDown();
+
+            assertThat(earlyFinish(rebuild.get(1, TimeUnit.MINUTES), task.getId())).isEqualTo(start.plusDays(4));
+            restoreRepository();
+            assertThat(earlyFinish(criticalPathService.getCriticalPath(initiativeId), task.getId())).isEqualTo(end);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void oppositeLinksAddedConcurrentlyCannotBothCommit() throws Exception {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Initiative initiative = initiativeService.createInitiative(
+                TestInitiatives.request("Dependency cycle race", "NDS"), userId);
+        LocalDate start = LocalDate.now().plusDays(10);
+        Long first = timelineTaskService.createTask(
+                new TimelineTask("First", null, start, start.plusDays(4), "Owner", "Owner", initiative)).getId();
+        Long second = timelineTaskService.createTask(
+                new TimelineTask("Second", null, start, start.plusDays(4), "Owner", "Owner", initiative)).getId();
+
+        // The first request waits after reading the links, long enough for an unlocked second one
+        // to read them too but shorter than the database lock timeout
+        CountDownLatch linksRead = new CountDownLatch(1);
+        CountDownLatch secondRead = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        TimelineTaskDependencyRepository paused = mock(TimelineTaskDependencyRepository.class,
+                AdditionalAnswers.delegatesTo(timelineTaskDependencyRepository));
+        doAnswer(invocation -> {
+            List<TimelineTaskDependency> links =
+                    timelineTaskDependencyRepository.findByInitiativeId(invocation.getArgument(0));
+            if (reads.incrementAndGet() == 1) {
+                linksRead.countDown();
+                secondRead.await(300, TimeUnit.MILLISECONDS);
+            } else {
+                secondRead.countDown();
+            }
+            return links;
+        }).when(paused).findByInitiativeId(anyLong());
+        ReflectionTestUtils.setField(criticalPathService, "timelineTaskDependencyRepository", paused);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<TimelineTaskDependency>> adds = new ArrayList<>();
+            adds.add(pool.submit(() -> criticalPathService.addDependency(first, second)));
+            assertThat(linksRead.await(1, TimeUnit.MINUTES)).isTrue();
+            adds.add(pool.submit(() -> criticalPathService.addDependency(second, first)));
+
+            assertThat(adds.get(0).get(1, TimeUnit.MINUTES).getSuccessorId()).isEqualTo(second);
+            assertThatThrownBy(() -> adds.get(1).get(1, TimeUnit.MINUTES))
+                    .hasMessageContaining("Dependency would create a cycle");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        restoreRepository();
+        assertThat(criticalPathService.getDependencies(initiative.getId())).hasSize(1);
+        assertThat(criticalPathService.getCriticalPath(initiative.getId()).getTasks()).hasSize(2);
+    }
+
+    private static LocalDate earlyFinish(CriticalPath path, Long taskId) {
+        for (CriticalPath.TaskSchedule task : path.getTasks()) {
+            if (task.getTaskId().equals(taskId)) {
+                return task.getEarlyFinish();
+            }
+        }
+        throw new AssertionError("Task " + taskId + " missing from the critical path");
+    }
+}
@@ -0,0 +1,45 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.entity.User;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.UserPrincipal;
+
+/**
+ * Principals are served from the cache until an update to their user commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomUserDetailsServiceTest {
+
+    private static final String EMAIL = "principal.cache@example.com";
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void cachedPrincipalIsDroppedWhenItsUserChanges() {
+        User user = userRepository.findByEmail(EMAIL).orElseGet(() -> userRepository.save(
+                new User("Principal Cache", EMAIL, "secret-hash", "NDS", "Quality", "STLD", "Site TSD Lead")));
+
+        UserPrincipal first = (UserPrincipal) customUserDetailsService.loadUserById(user.getId());
+        assertThat(customUserDetailsService.loadUserById(user.getId())).isSameAs(first);
+
+        String fullName = "Principal Cache " + System.nanoTime();
+        user.setFullName(fullName);
+        userRepository.save(user);
+        UserPrincipal reloaded = (UserPrincipal) customUserDetailsService.loadUserById(user.getId());
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(reloaded.getFullName()).isEqualTo(fullName);
+        assertThat(customUserDetailsService.loadUserById(user.getId())).isSameAs(reloaded);
+    }
+}
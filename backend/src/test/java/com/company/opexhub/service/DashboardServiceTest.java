@@ -0,0 +1,153 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.dto.DashboardSummary;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The incrementally maintained totals match a full recount, also when rebuilds run while
+ * initiative writes are committing. Stale cells are recounted in the background, and a rebuild
+ * waiting for a connection does not block commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DashboardServiceTest {
+
+    // One site per writer, both with workflow masters: initiative numbers are allocated per site
+    // and are not safe to race
+    private static final String[] SITES = {"NDS", "DHJ"};
+    private static final int WRITERS = SITES.length;
+    private static final int INITIATIVES_PER_WRITER = 40;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void totalsStayExactWhileRebuildsRace() throws Exception {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        long before = dashboardService.getSummary(null).getTotal().getCount();
+
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?> rebuilder = pool.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    dashboardService.rebuild();
+                }
+                return null;
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                final int writer = w;
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < INITIATIVES_PER_WRITER; i++) {
+                        initiativeService.createInitiative(
+                                TestInitiatives.request("Dashboard race " + writer + "-" + i, SITES[writer]), userId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(2, TimeUnit.MINUTES);
+            }
+            writing.set(false);
+            rebuilder.get(1, TimeUnit.MINUTES);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        DashboardSummary incremental = dashboardService.getSummary(null);
+        dashboardService.rebuild();
+        DashboardSummary recounted = dashboardService.getSummary(null);
+
+        assertThat(incremental.getTotal().getCount()).isEqualTo(before + WRITERS * INITIATIVES_PER_WRITER);
+        assertThat(incremental.getTotal().getCount()).isEqualTo(recounted.getTotal().getCount());
+        assertThat(incremental.getTotal().getExpectedSavings())
+                .isEqualByComparingTo(recounted.getTotal().getExpectedSavings());
+        for (String site : SITES) {
+            assertThat(incremental.getBySite().get(site).getCount()).isEqualTo(recounted.getBySite().get(site).getCount());
+        }
+    }
+
+    @Test
+    void staleCellsAreRecountedInTheBackground() throws Exception {
+        // A cell no initiative backs, as a missed delta would leave behind
+        dashboardService.apply("Drifted", "DRIFT", "Operation", 1, 1, BigDecimal.ONE, null);
+        assertThat(dashboardService.getSummary(null).getBySite()).containsKey("DRIFT");
+
+        dashboardService.markStale();
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+        while (dashboardService.getSummary(null).getBySite().containsKey("DRIFT")) {
+            assertThat(System.currentTimeMillis()).as("background rebuild").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void rebuildWaitingForAConnectionDoesNotBlockCommits() throws Exception {
+        int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        List<Connection> borrowed = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < poolSize; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+            Future<?> rebuild = pool.submit(() -> dashboardService.rebuild());
+            Thread.sleep(200);
+
+            // A committing transaction holds its connection while it takes the commit lock
+            Future<?> commit = pool.submit(() -> {
+                dashboardService.commitStarting();
+                dashboardService.commitApplied();
+            });
+            commit.get(5, TimeUnit.SECONDS);
+            assertThat(rebuild.isDone()).isFalse();
+
+            for (Connection connection : borrowed) {
+                connection.close();
+            }
+            borrowed.clear();
+            rebuild.get(1, TimeUnit.MINUTES);
+        } finally {
+            for (Connection connection : borrowed) {
+                connection.close();
+            }
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.config.SqlStatementCounter;
+import com.company.opexhub.dto.BulkDeleteResult;
+import com.company.opexhub.entity.Comment;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.entity.TimelineEntry;
+import com.company.opexhub.entity.TimelineTask;
+import com.company.opexhub.entity.User;
+import com.company.opexhub.repository.CommentRepository;
+import com.company.opexhub.repository.TimelineEntryRepository;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * A bulk delete removes the initiatives with all their dependent rows, reports the ids it did not
+ * find, and runs the same statements however many initiatives it deletes, apart from the change
+ * feed ids.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InitiativeDeletionServiceTest {
+
+    private static final List<String> DEPENDENT_TABLES = Arrays.asList("timeline_task_dependencies",
+            "timeline_tasks", "timeline_entries",
+            "comments", "monthly_monitoring_entries", "workflow_transactions");
+
+    @Autowired
+    private InitiativeDeletionService initiativeDeletionService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private TimelineTaskService timelineTaskService;
+
+    @Autowired
+    private CriticalPathService criticalPathService;
+
+    @Autowired
+    private MonthlyMonitoringService monthlyMonitoringService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void bulkDeleteRemovesDependentRowsAndReportsMissingIds() {
+        List<Long> ids = createWithDependents("Bulk delete", 3);
+        Long missing = Long.MAX_VALUE;
+
+        BulkDeleteResult result = initiativeDeletionService.deleteInitiatives(
+                Arrays.asList(ids.get(0), ids.get(1), ids.get(2), ids.get(0), missing));
+
+        assertThat(result.getRequested()).isEqualTo(4);
+        assertThat(result.getDeleted()).isEqualTo(3);
+        assertThat(result.getNotFound()).containsExactly(missing);
+        for (Long id : ids) {
+            assertThat(rows("initiatives", "id", id)).isZero();
+            for (String table : DEPENDENT_TABLES) {
+                assertThat(rows(table, "initiative_id", id)).as(table).isZero();
+            }
+        }
+    }
+
+    @Test
+    void statementsDoNotGrowWithTheInitiativesDeleted() {
+        List<Long> one = createWithDependents("Delete one", 1);
+        List<Long> five = createWithDependents("Delete five", 5);
+        long loggedForOne = loggedDeletions(one);
+        long loggedForFive = loggedDeletions(five);
+
+        // Only the change feed ids are drawn one per logged deletion, as the feed cursor cannot take
+        // ids in blocks
+        int forOne = statements(one);
+        int forFive = statements(five);
+        assertThat(forFive - forOne).isEqualTo(loggedForFive - loggedForOne);
+    }
+
+    /**
+     * The initiatives plus the workflow transactions, comments and monitoring entries the feed lists.
+     */
+    private long loggedDeletions(List<Long> ids) {
+        long logged = 0;
+        for (Long id : ids) {
+            logged += 1 + rows("workflow_transactions", "initiative_id", id) + rows("comments", "initiative_id", id)
+                    + rows("monthly_monitoring_entries", "initiative_id", id);
+        }
+        return logged;
+    }
+
+    private int statements(List<Long> ids) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            assertThat(initiativeDeletionService.deleteInitiatives(ids).getDeleted()).isEqualTo(ids.size());
+            scope.assertNoRepeatedSelects(2);
+            return scope.getCount();
+        }
+    }
+
+    private List<Long> createWithDependents(String title, int count) {
+        User user = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get();
+        LocalDate start = LocalDate.now().plusDays(10);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Initiative initiative = initiativeService.createInitiative(
+                    TestInitiatives.request(title + " " + i, "NDS"), user.getId());
+            TimelineTask first = timelineTaskService.createTask(
+                    new TimelineTask("First", null, start, start.plusDays(4), "Owner", "Owner", initiative));
+            TimelineTask second = timelineTaskService.createTask(
+                    new TimelineTask("Second", null, start.plusDays(5), start.plusDays(9), "Owner", "Owner", initiative));
+            criticalPathService.addDependency(first.getId(), second.getId());
+            monthlyMonitoringService.createMonitoringEntry(initiative.getId(),
+                    new MonthlyMonitoringEntry(null, YearMonth.of(2024, 1), "Savings", new BigDecimal("1000"), "Tester"));
+            commentRepository.save(new Comment("Before delete", "general", 1, initiative, user));
+            timelineEntryRepository.save(new TimelineEntry(initiative, "Stage", start, start.plusDays(9), "Owner"));
+            ids.add(initiative.getId());
+        }
+        return ids;
+    }
+
+    private long rows(String table, String column, Long id) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where " + column + " = ?",
+                Long.class, id);
+    }
+}
@@ -0,0 +1,78 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Overlap queries agree with a linear scan through a random mix of inserts and removes.
+ */
+class IntervalTreeTest {
+
+    @Test
+    void overlapsMatchALinearScan() {
+        Random random = new Random(42);
+        IntervalTree<long[]> tree = new IntervalTree<>();
+        List<long[]> intervals = new ArrayList<>();
+
+        for (long id = 0; id < 2000; id++) {
+            if (!intervals.isEmpty() && random.nextInt(4) == 0) {
+                long[] removed = intervals.remove(random.nextInt(intervals.size()));
+                tree.remove(removed[0], removed[2]);
+            }
+            long start = random.nextInt(1000);
+            long[] interval = {start, start + random.nextInt(60), id};
+            tree.insert(interval[0], interval[1], interval[2], interval);
+            intervals.add(interval);
+
+            if (id % 50 == 0) {
+                long from = random.nextInt(1100) - 50;
+                long to = from + random.nextInt(40);
+                List<long[]> found = new ArrayList<>();
+                tree.overlapping(from, to, found);
+                assertThat(found).containsExactlyInAnyOrderElementsOf(scan(intervals, from, to));
+                assertThat(found).isSortedAccordingTo((a, b) -> Long.compare(a[0], b[0]));
+            }
+        }
+        assertThat(tree.size()).isEqualTo(intervals.size());
+
+        for (Iterator<long[]> it = intervals.iterator(); it.hasNext(); ) {
+            long[] interval = it.next();
+            tree.remove(interval[0], interval[2]);
+            it.remove();
+        }
+        List<long[]> found = new ArrayList<>();
+        tree.overlapping(Long.MIN_VALUE, Long.MAX_VALUE, found);
+        assertThat(found).isEmpty();
+        assertThat(tree.size()).isZero();
+    }
+
+    @Test
+    void singleDayIntervalsAndBoundsAreInclusive() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(10, 10, 1, "day");
+        tree.insert(5, 9, 2, "before");
+        tree.insert(11, 20, 3, "after");
+
+        List<String> found = new ArrayList<>();
+        tree.overlapping(9, 11, found);
+        assertThat(found).containsExactly("before", "day", "after");
+        assertThatThrownBy(() -> tree.remove(11, 1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<long[]> scan(List<long[]> intervals, long from, long to) {
+        List<long[]> found = new ArrayList<>();
+        for (long[] interval : intervals) {
+            if (interval[0] <= to && interval[1] >= from) {
+                found.add(interval);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,146 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.dto.MonitoringBulkRequest;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * A bulk upsert matches rows to a month's entries by id or KPI, inserts the rest, and writes
+ * nothing when any row of a site-wide request is invalid.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MonthlyMonitoringServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 6);
+
+    @Autowired
+    private MonthlyMonitoringService monthlyMonitoringService;
+
+    @Autowired
+    private WorkflowTransactionService workflowTransactionService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+    }
+
+    @Test
+    void upsertMatchesByKpiOrIdAndInsertsTheRest() {
+        Long initiativeId = create("Bulk upsert", "NDS");
+        MonthlyMonitoringEntry energy = monthlyMonitoringService.createMonitoringEntry(initiativeId,
+                new MonthlyMonitoringEntry(null, MONTH, "Energy", new BigDecimal("100"), "Tester"));
+        MonthlyMonitoringEntry steam = monthlyMonitoringService.createMonitoringEntry(initiativeId,
+                new MonthlyMonitoringEntry(null, MONTH, "Steam", new BigDecimal("100"), "Tester"));
+        monthlyMonitoringService.createMonitoringEntry(initiativeId,
+                new MonthlyMonitoringEntry(null, MONTH, "Untouched", new BigDecimal("100"), "Tester"));
+
+        MonitoringBulkRequest.Row renamed = row(null, "Steam (LP)", "200", "150");
+        renamed.setId(steam.getId());
+        List<MonthlyMonitoringEntry> entries = monthlyMonitoringService.upsertMonthEntries(initiativeId, MONTH,
+                Arrays.asList(row(null, "Energy", "100", "80"), renamed, row(null, "Water", "50", "60")));
+
+        assertThat(entries).extracting(MonthlyMonitoringEntry::getKpiDescription)
+                .containsExactlyInAnyOrder("Energy", "Steam (LP)", "Untouched", "Water");
+        List<MonthlyMonitoringEntry> stored = monthlyMonitoringService
+                .getMonitoringEntriesByInitiativeAndMonth(initiativeId, MONTH);
+        assertThat(stored).hasSize(4);
+        MonthlyMonitoringEntry updatedEnergy = find(stored, "Energy");
+        assertThat(updatedEnergy.getId()).isEqualTo(energy.getId());
+        assertThat(updatedEnergy.getDeviation()).isEqualByComparingTo("-20");
+        assertThat(updatedEnergy.getDeviationPercentage()).isEqualByComparingTo("-20");
+        assertThat(find(stored, "Steam (LP)").getId()).isEqualTo(steam.getId());
+        assertThat(find(stored, "Water").getDeviation()).isEqualByComparingTo("10");
+
+        // Upserting the same rows again changes values, not the number of entries
+        monthlyMonitoringService.upsertMonthEntries(initiativeId, MONTH,
+                Collections.singletonList(row(null, "Water", "50", "70")));
+        stored = monthlyMonitoringService.getMonitoringEntriesByInitiativeAndMonth(initiativeId, MONTH);
+        assertThat(stored).hasSize(4);
+        assertThat(find(stored, "Water").getAchievedValue()).isEqualByComparingTo("70");
+    }
+
+    @Test
+    void siteUpsertWritesSeveralInitiativesAndRejectsForeignOnes() {
+        Long first = create("Site upsert 1", "NDS");
+        Long second = create("Site upsert 2", "NDS");
+        Long otherSite = create("Site upsert other", "DHJ");
+
+        Map<Long, List<MonthlyMonitoringEntry>> entries = monthlyMonitoringService.upsertSiteMonthEntries("NDS", MONTH,
+                Arrays.asList(row(first, "Energy", "100", "90"), row(second, "Energy", "100", "110"),
+                        row(second, "Water", "10", "10")));
+        assertThat(entries.keySet()).containsExactly(first, second);
+        assertThat(entries.get(second)).hasSize(2);
+
+        assertThatThrownBy(() -> monthlyMonitoringService.upsertSiteMonthEntries("NDS", MONTH,
+                Arrays.asList(row(first, "Steam", "100", "90"), row(otherSite, "Steam", "100", "90"))))
+                .hasMessageContaining("does not belong to site NDS");
+        assertThatThrownBy(() -> monthlyMonitoringService.upsertSiteMonthEntries("NDS", MONTH,
+                Arrays.asList(row(first, "Steam", "100", "90"), row(null, "Steam", "100", "90"))))
+                .hasMessageContaining("initiativeId is required");
+
+        // The rejected requests left nothing behind
+        assertThat(monthlyMonitoringService.getMonitoringEntriesByInitiativeAndMonth(first, MONTH))
+                .extracting(MonthlyMonitoringEntry::getKpiDescription).containsExactly("Energy");
+        assertThat(monthlyMonitoringService.getMonitoringEntriesByInitiativeAndMonth(otherSite, MONTH)).isEmpty();
+    }
+
+    @Test
+    void accessIsCheckedForAllInitiativesAtOnce() {
+        Long first = create("Access check 1", "NDS");
+        Long second = create("Access check 2", "NDS");
+
+        // Neither initiative has reached an approved stage 9
+        assertThat(workflowTransactionService.findInitiativesWithoutSavingsMonitoringAccess(
+                Arrays.asList(first, second), TestTokens.DEFAULT_EMAIL, "STLD")).containsExactlyInAnyOrder(first, second);
+    }
+
+    private Long create(String title, String site) {
+        return initiativeService.createInitiative(TestInitiatives.request(title, site), userId).getId();
+    }
+
+    private static MonitoringBulkRequest.Row row(Long initiativeId, String kpi, String target, String achieved) {
+        MonitoringBulkRequest.Row row = new MonitoringBulkRequest.Row();
+        row.setInitiativeId(initiativeId);
+        row.setKpiDescription(kpi);
+        row.setTargetValue(new BigDecimal(target));
+        row.setAchievedValue(new BigDecimal(achieved));
+        row.setEnteredBy("Tester");
+        return row;
+    }
+
+    private static MonthlyMonitoringEntry find(List<MonthlyMonitoringEntry> entries, String kpi) {
+        for (MonthlyMonitoringEntry entry : entries) {
+            if (kpi.equals(entry.getKpiDescription())) {
+                return entry;
+            }
+        }
+        throw new AssertionError("No entry for " + kpi);
+    }
+}
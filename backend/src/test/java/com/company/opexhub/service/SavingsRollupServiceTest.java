@@ -0,0 +1,108 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.dto.MonitoringBulkRequest;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * The savings rollup stays equal to the sum of the approved entries when edits to one initiative's
+ * months commit concurrently.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SavingsRollupServiceTest {
+
+    private static final int MONTHS = 4;
+    private static final int EDITS_PER_MONTH = 25;
+    private static final String KPI = "Savings";
+
+    @Autowired
+    private MonthlyMonitoringService monthlyMonitoringService;
+
+    @Autowired
+    private SavingsRollupService savingsRollupService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentMonthEditsKeepTheRollupExact() throws Exception {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Long initiativeId = initiativeService.createInitiative(
+                TestInitiatives.request("Savings rollup race", "NDS"), userId).getId();
+
+        YearMonth first = YearMonth.of(2024, 1);
+        for (int m = 0; m < MONTHS; m++) {
+            MonthlyMonitoringEntry entry = monthlyMonitoringService.createMonitoringEntry(initiativeId,
+                    new MonthlyMonitoringEntry(null, first.plusMonths(m), KPI, new BigDecimal("1000"), "Tester"));
+            monthlyMonitoringService.updateFAApproval(entry.getId(), true, "Approved");
+        }
+
+        // Each bulk upsert loads the initiative before the rollup locks it, the path that lost updates
+        ExecutorService pool = Executors.newFixedThreadPool(MONTHS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> editors = new ArrayList<>();
+            for (int m = 0; m < MONTHS; m++) {
+                final YearMonth month = first.plusMonths(m);
+                editors.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 1; i <= EDITS_PER_MONTH; i++) {
+                        monthlyMonitoringService.upsertMonthEntries(initiativeId, month,
+                                Collections.singletonList(row(BigDecimal.valueOf(i * 10L))));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> editor : editors) {
+                editor.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Initiative initiative = initiativeRepository.findById(initiativeId).get();
+        BigDecimal expected = BigDecimal.valueOf(EDITS_PER_MONTH * 10L * MONTHS);
+        assertThat(initiative.getActualSavings()).isEqualByComparingTo(expected);
+        assertThat(initiative.getSavingsMonths()).isEqualTo(MONTHS);
+        assertThat(savingsRollupService.reconcile()).isZero();
+    }
+
+    private static MonitoringBulkRequest.Row row(BigDecimal achieved) {
+        MonitoringBulkRequest.Row row = new MonitoringBulkRequest.Row();
+        row.setKpiDescription(KPI);
+        row.setTargetValue(new BigDecimal("1000"));
+        row.setAchievedValue(achieved);
+        row.setEnteredBy("Tester");
+        return row;
+    }
+}
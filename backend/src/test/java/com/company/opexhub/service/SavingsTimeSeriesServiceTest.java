@@ -0,0 +1,122 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.company.opexhub.dto.SavingsTimeSeries;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Monthly, cumulative, rolling and year-to-date savings for an April-March fiscal year, including
+ * the months before it, and refreshed when monitoring entries change. Uses fiscal year 2030, which
+ * no other test writes to. Walking many fiscal years keeps only a bounded number cached.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SavingsTimeSeriesServiceTest {
+
+    private static final int FISCAL_YEAR = 2030;
+
+    @Autowired
+    private SavingsTimeSeriesService savingsTimeSeriesService;
+
+    @Autowired
+    private MonthlyMonitoringService monthlyMonitoringService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${savings.cached-fiscal-years:8}")
+    private long cachedFiscalYears;
+
+    @Test
+    void sumsRunAcrossTheFiscalYearAndTheMonthsBeforeIt() {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Long initiativeId = initiativeService.createInitiative(
+                TestInitiatives.request("Savings time series", "NDS"), userId).getId();
+        // Before the 11 lead months, then a lead month, then months of the fiscal year itself
+        entry(initiativeId, YearMonth.of(2028, 1), "400");
+        entry(initiativeId, YearMonth.of(2030, 2), "90");
+        entry(initiativeId, YearMonth.of(2030, 4), "110");
+        entry(initiativeId, YearMonth.of(2030, 5), "150");
+        entry(initiativeId, YearMonth.of(2030, 6), "330.55");
+        entry(initiativeId, YearMonth.of(2031, 3), "100");
+
+        SavingsTimeSeries timeSeries = savingsTimeSeriesService.getTimeSeries(
+                FISCAL_YEAR, SavingsTimeSeriesService.BY_INITIATIVE, "NDS");
+        assertThat(timeSeries.getMonths()).hasSize(12);
+        assertThat(timeSeries.getMonths().get(0)).isEqualTo(YearMonth.of(2030, 4));
+        assertThat(timeSeries.getMonths().get(11)).isEqualTo(YearMonth.of(2031, 3));
+
+        SavingsTimeSeries.Series series = series(timeSeries, String.valueOf(initiativeId));
+        assertAmounts(series.getAchieved(), 0, "110", "150", "330.55", "0");
+        assertAmounts(series.getAchieved(), 11, "100");
+        assertAmounts(series.getCumulativeAchieved(), 0, "600", "750", "1080.55");
+        assertAmounts(series.getCumulativeAchieved(), 11, "1180.55");
+        assertAmounts(series.getRolling3Achieved(), 0, "200", "260", "590.55", "480.55", "330.55", "0");
+        assertAmounts(series.getRolling12Achieved(), 0, "200");
+        assertAmounts(series.getRolling12Achieved(), 10, "590.55", "690.55");
+        assertAmounts(series.getFytdAchieved(), 0, "110", "260", "590.55");
+        assertAmounts(series.getFytdAchieved(), 11, "690.55");
+        assertAmounts(series.getTarget(), 0, "1000", "1000", "1000", "0");
+
+        // A new entry is reflected in the next read, and groups sum their initiatives
+        Long otherId = initiativeService.createInitiative(
+                TestInitiatives.request("Savings time series 2", "NDS"), userId).getId();
+        entry(otherId, YearMonth.of(2030, 7), "25");
+        SavingsTimeSeries bySite = savingsTimeSeriesService.getTimeSeries(
+                FISCAL_YEAR, SavingsTimeSeriesService.BY_SITE, "NDS");
+        assertAmounts(series(bySite, "NDS").getAchieved(), 0, "110", "150", "330.55", "25");
+        assertAmounts(series(bySite, "NDS").getFytdAchieved(), 11, "715.55");
+    }
+
+    @Test
+    void walkingFiscalYearsKeepsTheCacheBounded() {
+        for (int year = 1900; year < 2000; year++) {
+            assertThat(savingsTimeSeriesService.getTimeSeries(year, SavingsTimeSeriesService.BY_SITE, null)
+                    .getMonths()).hasSize(12);
+        }
+
+        Cache<?, ?> cache = (Cache<?, ?>) ReflectionTestUtils.getField(savingsTimeSeriesService, "cache");
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(cachedFiscalYears);
+    }
+
+    private void entry(Long initiativeId, YearMonth month, String achieved) {
+        MonthlyMonitoringEntry entry = new MonthlyMonitoringEntry(null, month, "Savings", new BigDecimal("1000"), "Tester");
+        entry.setAchievedValue(new BigDecimal(achieved));
+        monthlyMonitoringService.createMonitoringEntry(initiativeId, entry);
+    }
+
+    private static SavingsTimeSeries.Series series(SavingsTimeSeries timeSeries, String key) {
+        for (SavingsTimeSeries.Series series : timeSeries.getSeries()) {
+            if (series.getKey().equals(key)) {
+                return series;
+            }
+        }
+        throw new AssertionError("No series for " + key);
+    }
+
+    private static void assertAmounts(List<BigDecimal> values, int from, String... expected) {
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(values.get(from + i)).as("month " + (from + i)).isEqualByComparingTo(expected[i]);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.dto.TimelineInterval;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.TimelineTask;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * The interval index follows task creates, edits and deletes as they commit, filters by site and
+ * person, and matches a rebuild from the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TimelineIntervalIndexTest {
+
+    private static final String PERSON = "Interval Index Owner";
+
+    @Autowired
+    private TimelineIntervalIndex timelineIntervalIndex;
+
+    @Autowired
+    private TimelineTaskService timelineTaskService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void indexFollowsCommittedTaskChanges() {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Initiative initiative = initiativeService.createInitiative(
+                TestInitiatives.request("Interval index", "NDS"), userId);
+        LocalDate start = LocalDate.of(2031, 1, 10);
+        TimelineTask first = timelineTaskService.createTask(
+                new TimelineTask("First", null, start, start.plusDays(4), PERSON, PERSON, initiative));
+        TimelineTask second = timelineTaskService.createTask(
+                new TimelineTask("Second", null, start.plusDays(10), start.plusDays(12), PERSON, PERSON, initiative));
+
+        assertThat(ids(start, start.plusDays(30), "NDS")).containsExactly(first.getId(), second.getId());
+        assertThat(ids(start.plusDays(4), start.plusDays(4), "NDS")).containsExactly(first.getId());
+        assertThat(ids(start.plusDays(5), start.plusDays(9), "NDS")).isEmpty();
+        assertThat(ids(start, start.plusDays(30), "DHJ")).isEmpty();
+
+        // Moving the first task past the second changes the order and the days it covers
+        TimelineTask details = new TimelineTask("First", null, start.plusDays(20), start.plusDays(21), PERSON, PERSON, null);
+        details.setStatus(first.getStatus());
+        details.setProgressPercentage(first.getProgressPercentage());
+        timelineTaskService.updateTask(first.getId(), details);
+        assertThat(ids(start, start.plusDays(30), "NDS")).containsExactly(second.getId(), first.getId());
+        assertThat(ids(start, start.plusDays(4), null)).isEmpty();
+
+        timelineTaskService.deleteTask(second.getId());
+        assertThat(ids(start, start.plusDays(30), null)).containsExactly(first.getId());
+
+        timelineIntervalIndex.rebuild();
+        assertThat(ids(start, start.plusDays(30), "NDS")).containsExactly(first.getId());
+        assertThat(timelineIntervalIndex.findWorkload(start, start.plusDays(30), "NDS").get(PERSON))
+                .extracting(TimelineInterval::getId).containsExactly(first.getId());
+    }
+
+    private List<Long> ids(LocalDate from, LocalDate to, String site) {
+        List<TimelineInterval> intervals = timelineIntervalIndex.findOverlapping(TimelineInterval.TASK, from, to, site, PERSON);
+        List<Long> ids = new ArrayList<>();
+        for (TimelineInterval interval : intervals) {
+            ids.add(interval.getId());
+        }
+        return ids;
+    }
+}
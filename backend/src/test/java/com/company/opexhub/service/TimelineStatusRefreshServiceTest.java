@@ -0,0 +1,94 @@
+package com.company.opexhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.dto.TimelineStatusRefresh;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.TimelineEntry;
+import com.company.opexhub.entity.TimelineTask;
+import com.company.opexhub.repository.TimelineEntryRepository;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.support.TestInitiatives;
+import com.company.opexhub.support.TestTokens;
+
+/**
+ * The refresh moves on the status of rows whose dates have passed without an edit, and touches
+ * nothing once every row is current. Days passing are simulated by moving dates in SQL, which
+ * bypasses the entity hooks as the calendar does.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TimelineStatusRefreshServiceTest {
+
+    @Autowired
+    private TimelineStatusRefreshService timelineStatusRefreshService;
+
+    @Autowired
+    private TimelineTaskService timelineTaskService;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void refreshMovesStatusForDatesThatHavePassed() {
+        Long userId = userRepository.findByEmail(TestTokens.DEFAULT_EMAIL).get().getId();
+        Initiative initiative = initiativeService.createInitiative(
+                TestInitiatives.request("Status refresh", "NDS"), userId);
+        LocalDate today = LocalDate.now();
+        LocalDate tomorrow = today.plusDays(1);
+
+        TimelineEntry entry = timelineEntryRepository.save(
+                new TimelineEntry(initiative, "Stage", tomorrow, tomorrow.plusDays(9), "Owner"));
+        TimelineTask late = timelineTaskService.createTask(
+                new TimelineTask("Late", null, today, tomorrow, "Owner", "Owner", initiative));
+        TimelineTask finished = timelineTaskService.createTask(
+                new TimelineTask("Finished", null, today.minusDays(9), today.minusDays(1), "Owner", "Owner", initiative));
+        assertThat(entry.getStatus()).isEqualTo(TimelineEntry.TimelineStatus.PENDING);
+        assertThat(late.getOverdue()).isFalse();
+        assertThat(finished.getOverdue()).isTrue();
+
+        // The planned start and the task's end date pass; the other task is completed
+        jdbcTemplate.update("update timeline_entries set planned_start_date = ? where id = ?",
+                today.minusDays(1), entry.getId());
+        jdbcTemplate.update("update timeline_tasks set end_date = ? where id = ?", today.minusDays(1), late.getId());
+        jdbcTemplate.update("update timeline_tasks set status = 'Completed' where id = ?", finished.getId());
+
+        // The startup run has already completed once the context is ready
+        assertThat(timelineStatusRefreshService.getLastRun()).isNotNull();
+        TimelineStatusRefresh refresh = timelineStatusRefreshService.refresh();
+        assertThat(refresh.getAsOf()).isEqualTo(today);
+        assertThat(refresh.getEntriesUpdated()).isGreaterThanOrEqualTo(1);
+        assertThat(refresh.getTasksUpdated()).isGreaterThanOrEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select status from timeline_entries where id = ?",
+                String.class, entry.getId())).isEqualTo(TimelineEntry.TimelineStatus.IN_PROGRESS.name());
+        assertThat(overdue(late.getId())).isTrue();
+        assertThat(overdue(finished.getId())).isFalse();
+        assertThat(timelineStatusRefreshService.getLastRun()).isSameAs(refresh);
+
+        // Rows already current are left alone
+        TimelineStatusRefresh again = timelineStatusRefreshService.refresh();
+        assertThat(again.getEntriesUpdated()).isZero();
+        assertThat(again.getTasksUpdated()).isZero();
+    }
+
+    private Boolean overdue(Long taskId) {
+        return jdbcTemplate.queryForObject("select overdue from timeline_tasks where id = ?", Boolean.class, taskId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.opexhub.support;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.company.opexhub.dto.InitiativeRequest;
+
+/**
+ * Minimal valid initiative requests. Titles should be unique per test, as tests share one context.
+ */
+public final class TestInitiatives {
+
+    private TestInitiatives() {
+    }
+
+    public static InitiativeRequest request(String title, String site) {
+        InitiativeRequest request = new InitiativeRequest();
+        request.setTitle(title);
+        request.setDescription("Description of " + title);
+        request.setPriority("High");
+        request.setExpectedSavings(new BigDecimal("100000"));
+        request.setSite(site);
+        request.setDiscipline("Operation");
+        request.setStartDate(LocalDate.now().minusMonths(1));
+        request.setEndDate(LocalDate.now().plusMonths(6));
+        request.setInitiatorName("Test Initiator");
+        return request;
+    }
+}
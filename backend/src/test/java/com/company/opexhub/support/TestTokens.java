@@ -0,0 +1,27 @@
+package com.company.opexhub.support;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.company.opexhub.entity.User;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.security.UserPrincipal;
+
+/**
+ * Bearer tokens for seeded users, issued directly so tests do not pay for a BCrypt sign-in.
+ */
+public final class TestTokens {
+
+    public static final String DEFAULT_EMAIL = "manoj.tiwari@godeepak.com";
+
+    private TestTokens() {
+    }
+
+    public static String bearer(JwtTokenProvider tokenProvider, UserRepository userRepository, String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("No seeded user " + email));
+        UserPrincipal principal = UserPrincipal.create(user);
+        return "Bearer " + tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
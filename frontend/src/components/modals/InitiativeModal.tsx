@@ -28,6 +28,7 @@ import {
 } from 'lucide-react';
 import { useProgressPercentage, useCurrentPendingStage } from '@/hooks/useWorkflowTransactions';
 import { useUser } from '@/hooks/useUsers';
+import { useInitiative } from '@/hooks/useInitiatives';
 import { initiativeAPI } from '@/lib/api';
 
 interface Initiative {
@@ -101,12 +102,16 @@ export default function InitiativeModal({ isOpen, onClose, initiative, mode, onS
     }
   }, [isOpen, mode]);
 
+  // List rows are summaries; long text fields come from the full initiative
+  const { data: initiativeDetails } = useInitiative(Number(initiative?.id));
+  const description = initiativeDetails?.description ?? initiative?.description;
+
   // Update formData when initiative changes
   useEffect(() => {
     if (initiative) {
-      setFormData(initiative);
+      setFormData({ ...initiative, description });
     }
-  }, [initiative]);
+  }, [initiative, description]);
 
   // Get real progress and current stage data
   const { data: progressData } = useProgressPercentage(Number(initiative?.id));
@@ -431,14 +436,14 @@ export default function InitiativeModal({ isOpen, onClose, initiative, mode, onS
                         </Badge>
                       </div>
                     </div>
-                    {initiative?.description && (
+                    {description && (
                       <>
                         <Separator />
                         <div>
                           <p className="text-sm font-medium mb-2">Description</p>
                           <div className="max-h-32 overflow-y-auto">
                             <p className="text-sm text-muted-foreground leading-relaxed whitespace-pre-line">
-                              {initiative.description}
+                              {description}
                             </p>
                           </div>
                         </div>
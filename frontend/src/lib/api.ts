@@ -64,10 +64,15 @@ export const initiativeAPI = {
     status?: string;
     site?: string;
     search?: string;
+    fields?: string[];
     page?: number;
     size?: number;
   }) => {
-    const response = await api.get('/initiatives', { params });
+    // Sent comma-separated; the backend does not read the fields[]= form
+    const { fields, ...rest } = params || {};
+    const response = await api.get('/initiatives', {
+      params: fields?.length ? { ...rest, fields: fields.join(',') } : rest,
+    });
     return response.data;
   },
   
@@ -57,6 +57,14 @@ interface InitiativesProps {
   user: User;
 }
 
+// Columns this page shows; description is not in the default list summary, so it is asked for
+const LIST_FIELDS = [
+  'id', 'title', 'initiativeNumber', 'site', 'status', 'priority', 'expectedSavings',
+  'progressPercentage', 'updatedAt', 'discipline', 'createdAt', 'description', 'startDate',
+  'endDate', 'currentStage', 'currentStageName', 'requiresMoc', 'requiresCapex',
+  'createdByName', 'createdByEmail', 'initiatorName',
+];
+
 export default function Initiatives({ user }: InitiativesProps) {
   const [currentPage, setCurrentPage] = useState(1);
   const [itemsPerPage] = useState(10);
@@ -71,6 +79,7 @@ export default function Initiatives({ user }: InitiativesProps) {
     status: statusFilter !== "all" ? statusFilter : undefined,
     site: siteFilter !== "all" ? siteFilter : undefined,
     search: searchTerm || undefined,
+    fields: LIST_FIELDS,
   });
 
   // Use API data if available, otherwise fallback to mock data